@@ -0,0 +1,69 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.support.SeededDataset;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/holidays 응답 본문: Page&lt;HolidayResponse&gt; JSON 직렬화.
+ * ObjectMapper 는 Spring Boot 기본 설정(날짜는 ISO 문자열)과 같게 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayPageJsonBenchmark {
+
+    @Param({"20", "100"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private Page<HolidayResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<HolidayResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(new HolidayResponse((long) i + 1, "KR", "Korea (Republic of)",
+                    LocalDate.of(2025, 1, 1).plusDays(i % 365), 2025, "휴일 " + (i + 1), "Holiday " + (i + 1),
+                    SeededDataset.TYPES.get(i % SeededDataset.TYPES.size()), i % 3 != 0, i % 4 != 0,
+                    i % 7 == 0 ? 1950 : null));
+        }
+        int total = SeededDataset.COUNTRY_COUNT * SeededDataset.HOLIDAYS_PER_YEAR
+                * (SeededDataset.END_YEAR - SeededDataset.START_YEAR + 1);
+        page = new PageImpl<>(content, PageRequest.of(3, size), total);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
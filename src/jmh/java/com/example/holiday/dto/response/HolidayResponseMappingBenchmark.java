@@ -0,0 +1,71 @@
+package com.example.holiday.dto.response;
+
+import com.example.holiday.domain.Country;
+import com.example.holiday.domain.Holiday;
+import com.example.holiday.domain.HolidayType;
+import com.example.holiday.support.SeededDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HolidayResponse.from 엔티티 → 응답 DTO 변환 (한 페이지 / 내보내기 크기).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidayResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    int size;
+
+    private List<Holiday> holidays;
+
+    @Setup
+    public void setUp() {
+        Country country = Country.builder().code("KR").name("Korea (Republic of)").build();
+        List<HolidayType> types = SeededDataset.TYPES.stream()
+                .map(code -> HolidayType.builder().code(code).build())
+                .toList();
+
+        holidays = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            holidays.add(Holiday.builder()
+                    .id((long) i + 1)
+                    .country(country)
+                    .date(LocalDate.of(2025, 1, 1).plusDays(i % 365))
+                    .localName("휴일 " + (i + 1))
+                    .name("Holiday " + (i + 1))
+                    .type(types.get(i % types.size()))
+                    .fixed(i % 3 != 0)
+                    .global(i % 4 != 0)
+                    .launchYear(i % 7 == 0 ? 1950 : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<HolidayResponse> from() {
+        List<HolidayResponse> responses = new ArrayList<>(holidays.size());
+        for (Holiday holiday : holidays) {
+            responses.add(HolidayResponse.from(holiday));
+        }
+        return responses;
+    }
+}
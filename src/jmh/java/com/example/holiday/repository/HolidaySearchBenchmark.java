@@ -0,0 +1,101 @@
+package com.example.holiday.repository;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.support.SeededDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HolidayRepositoryImpl 페이징 검색 (content + count) 조건 조합 × 페이지 깊이.
+ * - search: 엔티티 + fetch join 후 HolidayResponse 변환 (이전 GET /api/holidays 경로)
+ * - searchResponses: HolidayResponse 프로젝션 (현재 경로)
+ * 페이지 크기는 API 기본값(20), 깊은 페이지는 OFFSET 비용을 본다.
+ * 할당량 비교: -prof gc 의 gc.alloc.rate.norm (연산당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HolidaySearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "100"})
+    int scale;
+
+    @Param({"NONE", "YEAR", "COUNTRY_YEAR", "RANGE", "TYPE_YEAR", "ALL"})
+    Filter filter;
+
+    @Param({"0", "50"})
+    int page;
+
+    private ConfigurableApplicationContext context;
+    private HolidayRepository holidayRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SeededDataset.start(scale);
+        holidayRepository = context.getBean(HolidayRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<HolidayResponse> search() {
+        return holidayRepository.search(filter.year, filter.countryCode, filter.from, filter.to, filter.typeCode,
+                PageRequest.of(page, PAGE_SIZE)).map(HolidayResponse::from);
+    }
+
+    @Benchmark
+    public Page<HolidayResponse> searchResponses() {
+        return holidayRepository.searchResponses(filter.condition, PageRequest.of(page, PAGE_SIZE));
+    }
+
+    public enum Filter {
+        NONE(null, null, null, null, null),
+        YEAR(2024, null, null, null, null),
+        COUNTRY_YEAR(2024, "KR", null, null, null),
+        RANGE(null, null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 9, 30), null),
+        TYPE_YEAR(2024, null, null, null, "Public"),
+        ALL(2024, "KR", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 9, 30), "Public");
+
+        final Integer year;
+        final String countryCode;
+        final LocalDate from;
+        final LocalDate to;
+        final String typeCode;
+        final HolidaySearchCondition condition;
+
+        Filter(Integer year, String countryCode, LocalDate from, LocalDate to, String typeCode) {
+            this.year = year;
+            this.countryCode = countryCode;
+            this.from = from;
+            this.to = to;
+            this.typeCode = typeCode;
+            this.condition = new HolidaySearchCondition(year, countryCode, from, to, typeCode);
+        }
+    }
+}
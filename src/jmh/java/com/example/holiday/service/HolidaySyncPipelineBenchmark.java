@@ -0,0 +1,77 @@
+package com.example.holiday.service;
+
+import com.example.holiday.domain.Country;
+import com.example.holiday.domain.Holiday;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.support.SeededDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * syncYearCountry 의 저장 전 단계: 외부 응답 중복 제거 + Holiday 엔티티 생성 (국가·연도 하나 분량).
+ * 응답 10건 중 1건은 앞 건과 (날짜, 현지어 이름)이 같은 중복. 타입은 참조 데이터 캐시에서 찾는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HolidaySyncPipelineBenchmark {
+
+    @Param({"1", "100"})
+    int scale;
+
+    private ConfigurableApplicationContext context;
+    private HolidayService holidayService;
+    private Country country;
+    private List<NagerHolidayResponse> responses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 참조 데이터(국가 / 타입)만 필요하므로 기본 규모 DB 로 시작
+        context = SeededDataset.start(1);
+        holidayService = context.getBean(HolidayService.class);
+        country = context.getBean(ReferenceDataCache.class).findCountry("KR").orElseThrow();
+
+        int count = SeededDataset.HOLIDAYS_PER_YEAR * scale;
+        responses = new ArrayList<>(count + count / 10);
+        for (int i = 0; i < count; i++) {
+            NagerHolidayResponse response = new NagerHolidayResponse(
+                    LocalDate.of(2025, 1, 1).plusDays((long) i * 365 / count), "휴일 " + (i + 1),
+                    "Holiday " + (i + 1), "KR", i % 3 != 0, i % 4 != 0, null,
+                    List.of(SeededDataset.TYPES.get(i % SeededDataset.TYPES.size())));
+            responses.add(response);
+            if (i % 10 == 9) {
+                responses.add(response);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Holiday> toEntities() {
+        return holidayService.toEntities(country, responses);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.holiday.support;
+
+import com.example.holiday.HolidayApplication;
+import com.example.holiday.snapshot.DataSnapshot;
+import com.example.holiday.snapshot.DataSnapshot.CountryRow;
+import com.example.holiday.snapshot.DataSnapshot.HolidayRow;
+import com.example.holiday.snapshot.DataSnapshotCodec;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JMH 벤치마크용 합성 데이터셋과 애플리케이션 컨텍스트.
+ * - scale 1: 실제 Nager 데이터와 비슷한 규모 (110개 국가 × 2020~2025 × 연 15건 = 9,900행)
+ * - scale 100: 국가·연도당 공휴일을 100배로 늘린 990,000행 (깊은 페이지·넓은 범위 조회용)
+ * - 데이터는 스냅샷 파일로 만들어 holiday.snapshot.path 로 넘기고, 시작 시 HolidayDataInitializer 가
+ *   외부 API 없이 적재한다
+ * - H2 파일 DB(build/jmh/db)에 한 번 적재하면 이후 fork 는 DB 가 비어 있지 않으므로 적재를 건너뜀
+ */
+public final class SeededDataset {
+
+    public static final int COUNTRY_COUNT = 110;
+    public static final int HOLIDAYS_PER_YEAR = 15;
+    public static final int START_YEAR = 2020;
+    public static final int END_YEAR = 2025;
+    public static final List<String> TYPES = List.of("Public", "Bank", "School", "Optional", "Observance");
+
+    // 생성 규칙이나 기존 마이그레이션을 바꾸면 올려서 이전 규칙으로 만든 DB 파일을 쓰지 않도록
+    private static final int DATASET_VERSION = 2;
+
+    private SeededDataset() {
+    }
+
+    /**
+     * scale 배 데이터셋이 적재된 애플리케이션 컨텍스트 (웹 서버 없이).
+     */
+    public static ConfigurableApplicationContext start(int scale) {
+        Path dir = Path.of(System.getProperty("holiday.jmh.dir", "build/jmh")).toAbsolutePath();
+        Path snapshot = writeSnapshotIfAbsent(dir, scale);
+        Path database = dir.resolve("db").resolve("holiday-v" + DATASET_VERSION + "-x" + scale);
+
+        return new SpringApplicationBuilder(HolidayApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                // application.yml 보다 우선하도록 명령행 인자로 전달
+                // 대량 적재 직후 파일이 커지므로 닫을 때 충분히 압축(MAX_COMPACT_TIME)
+                .run("--spring.datasource.url=jdbc:h2:file:" + database + ";MODE=MYSQL;DB_CLOSE_ON_EXIT=FALSE;MAX_COMPACT_TIME=120000",
+                        "--holiday.snapshot.path=" + snapshot,
+                        // 지원 연도 창을 데이터셋 연도에 고정 (실행 날짜와 무관하게 같은 데이터로 측정)
+                        "--holiday.years.anchor=" + END_YEAR,
+                        "--holiday.years.back=" + (END_YEAR - START_YEAR),
+                        "--holiday.years.ahead=0",
+                        "--logging.level.root=WARN");
+    }
+
+    public static List<String> countryCodes() {
+        Set<String> codes = new LinkedHashSet<>(List.of("KR", "US", "JP", "DE", "FR", "GB"));
+        for (char first = 'A'; codes.size() < COUNTRY_COUNT; first++) {
+            for (char second = 'A'; second <= 'Z' && codes.size() < COUNTRY_COUNT; second++) {
+                codes.add("" + first + second);
+            }
+        }
+        return List.copyOf(codes);
+    }
+
+    /**
+     * 국가마다 2020~2025 년 연 (15 × scale)건을 1년에 고르게 배치.
+     */
+    public static DataSnapshot generate(int scale) {
+        List<String> codes = countryCodes();
+        List<CountryRow> countries = codes.stream()
+                .map(code -> new CountryRow(code, "Country " + code, null))
+                .toList();
+
+        int perYear = HOLIDAYS_PER_YEAR * scale;
+        List<HolidayRow> holidays = new ArrayList<>(codes.size() * (END_YEAR - START_YEAR + 1) * perYear);
+        long id = 1;
+        for (String code : codes) {
+            for (int year = START_YEAR; year <= END_YEAR; year++) {
+                LocalDate start = LocalDate.of(year, 1, 1);
+                int days = start.lengthOfYear();
+                for (int i = 0; i < perYear; i++) {
+                    holidays.add(new HolidayRow(id++, code, start.plusDays((long) i * days / perYear),
+                            "휴일 " + (i + 1), "Holiday " + (i + 1), TYPES.get(i % TYPES.size()),
+                            i % 3 != 0, i % 4 != 0, i % 7 == 0 ? 1950 + i % 50 : null));
+                }
+            }
+        }
+        return new DataSnapshot(Instant.EPOCH, countries, TYPES, holidays);
+    }
+
+    private static Path writeSnapshotIfAbsent(Path dir, int scale) {
+        Path snapshot = dir.resolve("holiday-v" + DATASET_VERSION + "-x" + scale + ".snapshot");
+        if (Files.exists(snapshot)) {
+            return snapshot;
+        }
+        try {
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, "holiday-x" + scale, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                DataSnapshotCodec.write(generate(scale), out);
+            }
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return snapshot;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,404 @@
+package com.example.holiday.loadtest;
+
+import com.example.holiday.HolidayApplication;
+import com.example.holiday.loadtest.LoadTestReport.InitialLoad;
+import com.example.holiday.loadtest.LoadTestReport.Latency;
+import com.example.holiday.loadtest.LoadTestReport.Refresh;
+import com.example.holiday.loadtest.LoadTestReport.Search;
+import com.example.holiday.service.HolidayYearWindow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 API 대신 NagerStandIn 을 바라보게 애플리케이션을 띄우고 HTTP 로 부하를 준다.
+ * 1. 초기 적재: DB 가 빈 상태로 기동해 HolidayDataInitializer 가 전체 국가 × 연도를 적재하는 시간
+ * 2. refresh: 외부 데이터가 바뀐 경우(200)와 바뀌지 않은 경우(304)의 POST /api/holidays/refresh 응답 시간
+ * 3. 검색: 여러 필터·페이지 조합의 GET /api/holidays 를 동시에 보내 처리량과 응답 시간 측정
+ * 결과는 버전·커밋별 JSON(build/reports/loadtest)으로 남겨 릴리스 간 비교에 사용.
+ *
+ * 옵션 (--key=value, 괄호는 기본값):
+ * countries(110), holidays-per-year(15), latency(50ms), jitter(20ms), error-rate(0),
+ * refreshes(50), search-concurrency(16), search-duration(30s), search-warmup(5s),
+ * report-dir(build/reports/loadtest), version, commit,
+ * max-errors(-1: 검사 안 함, 0 이상이면 적재된 행이 없거나 실패 응답이 그보다 많을 때 보고서를 남긴 뒤 실패로 종료).
+ * --app.xxx=yyy 는 애플리케이션에 --xxx=yyy 로 그대로 넘긴다 (예: --app.holiday.search.in-memory=true).
+ */
+public final class LoadTestDriver {
+
+    private static final String APP_PREFIX = "--app.";
+    private static final int PAGE_SIZE = 20;
+
+    private final Map<String, String> options;
+    private final List<String> appArgs;
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private LoadTestDriver(Map<String, String> options, List<String> appArgs) {
+        this.options = options;
+        this.appArgs = appArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(APP_PREFIX)) {
+                appArgs.add("--" + arg.substring(APP_PREFIX.length()));
+                continue;
+            }
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        new LoadTestDriver(options, appArgs).run();
+    }
+
+    private void run() throws Exception {
+        NagerStandIn.Settings standInSettings = new NagerStandIn.Settings(
+                intOption("countries", 110),
+                intOption("holidays-per-year", 15),
+                durationOption("latency", "50ms"),
+                durationOption("jitter", "20ms"),
+                Double.parseDouble(option("error-rate", "0")));
+        int refreshes = intOption("refreshes", 50);
+        int concurrency = intOption("search-concurrency", 16);
+        Duration searchDuration = durationOption("search-duration", "30s");
+        Duration searchWarmup = durationOption("search-warmup", "5s");
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("standIn", standInSettings);
+        settings.put("refreshes", refreshes);
+        settings.put("searchConcurrency", concurrency);
+        settings.put("searchDuration", searchDuration);
+        settings.put("searchWarmup", searchWarmup);
+        settings.put("appArgs", appArgs);
+
+        Instant startedAt = Instant.now();
+        LoadTestReport report;
+        try (NagerStandIn standIn = new NagerStandIn(standInSettings)) {
+            InitialLoadTimer timer = new InitialLoadTimer();
+            try (ConfigurableApplicationContext app = startApp(standIn, timer)) {
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                String baseUrl = "http://127.0.0.1:" + port + "/api/holidays";
+
+                long rows = totalElements(baseUrl);
+                long wallTimeMs = timer.elapsed().toMillis();
+                InitialLoad initialLoad = new InitialLoad(wallTimeMs, rows,
+                        wallTimeMs == 0 ? 0 : Math.round(rows * 1000.0 / wallTimeMs * 10) / 10.0);
+                print("initial load", "%d rows in %d ms (%.1f rows/s)",
+                        rows, wallTimeMs, initialLoad.rowsPerSec());
+
+                HolidayYearWindow yearWindow = app.getBean(HolidayYearWindow.class);
+                Refresh refresh = refresh(baseUrl, standIn, yearWindow, refreshes);
+                print("refresh changed", refresh.changed());
+                print("refresh not-modified", refresh.notModified());
+
+                Search search = search(baseUrl, standIn.countryCodes(), yearWindow, concurrency, searchDuration,
+                        searchWarmup);
+                print("search", "%.1f req/s with %d concurrent clients", search.throughput(), concurrency);
+                print("search latency", search.latency());
+
+                report = new LoadTestReport(option("version", "unspecified"), option("commit", "local"),
+                        startedAt, environment(), settings, initialLoad, refresh, search, standIn.stats());
+            }
+        }
+        Path file = writeReport(report);
+        print("report", "%s", file.toAbsolutePath());
+        verify(report, intOption("max-errors", -1));
+    }
+
+    // 스모크 실행(./gradlew loadTestSmoke)용: 측정 경로가 실제로 동작했는지만 확인
+    private static void verify(LoadTestReport report, int maxErrors) {
+        if (maxErrors < 0) {
+            return;
+        }
+        if (report.initialLoad().rows() == 0) {
+            throw new IllegalStateException("초기 적재된 공휴일이 없습니다.");
+        }
+        Refresh refresh = report.refresh();
+        Search search = report.search();
+        long measured = refresh.changed().count() + refresh.notModified().count() + search.latency().count();
+        int errors = refresh.changed().errors() + refresh.notModified().errors() + search.latency().errors();
+        if (measured == 0 || errors > maxErrors) {
+            throw new IllegalStateException("부하 테스트 검증 실패 - 성공 요청 " + measured + "건, 실패 응답 "
+                    + errors + "건 (허용 " + maxErrors + "건)");
+        }
+    }
+
+    private ConfigurableApplicationContext startApp(NagerStandIn standIn, InitialLoadTimer timer) throws IOException {
+        Path nagerCache = Files.createTempDirectory("holiday-loadtest-nager-cache");
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        // 테스트·JMH 와 겹치지 않는 빈 메모리 DB 로 시작해 초기 적재부터 측정
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:holiday-loadtest;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("holiday.nager.base-url", standIn.baseUrl());
+        properties.put("holiday.nager.cache.dir", nagerCache.toString());
+        properties.put("holiday.snapshot.path", "");
+        properties.put("logging.level.root", "WARN");
+        // 릴리스 간 비교가 되도록 지원 연도 창을 실행 날짜와 무관하게 고정 (2020~2025)
+        properties.put("holiday.years.anchor", "2025");
+        properties.put("holiday.years.back", "5");
+        properties.put("holiday.years.ahead", "0");
+        // rate limit 은 공개 API 보호용이므로 대역 서버 상대로는 풀어 앱 자체의 처리량을 잰다 (bulkhead 는 유지)
+        for (String lane : List.of("interactive", "batch")) {
+            properties.put("holiday.nager.lanes." + lane + ".permits-per-second", "10000");
+            properties.put("holiday.nager.lanes." + lane + ".burst", "10000");
+        }
+        // 같은 옵션을 두 번 넘기면 값이 쉼표로 합쳐지므로 --app.* 는 키 단위로 덮어쓴다
+        for (String appArg : appArgs) {
+            int eq = appArg.indexOf('=');
+            properties.put(appArg.substring(2, eq < 0 ? appArg.length() : eq), eq < 0 ? "" : appArg.substring(eq + 1));
+        }
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+
+        return new SpringApplicationBuilder(HolidayApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .listeners(timer)
+                .run(args);
+    }
+
+    private long totalElements(String baseUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "?size=1")).GET());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("공휴일 수 조회 실패: HTTP " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).path("totalElements").asLong();
+    }
+
+    /**
+     * 같은 (연도, 국가) 목록으로 두 번 측정.
+     * - changed: 요청마다 대역 데이터를 바꿔 항상 새 본문을 받아 upsert
+     * - notModified: 데이터를 그대로 두고, 측정 전 한 번 동기화해 저장된 ETag 를 최신으로 맞춘 뒤 304 경로만 측정
+     */
+    private Refresh refresh(String baseUrl, NagerStandIn standIn, HolidayYearWindow yearWindow, int count)
+            throws IOException, InterruptedException {
+        Random random = new Random(42);
+        List<String> countryCodes = standIn.countryCodes();
+        List<Integer> years = yearWindow.years();
+        List<URI> targets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int year = years.get(random.nextInt(years.size()));
+            String countryCode = countryCodes.get(random.nextInt(countryCodes.size()));
+            targets.add(URI.create(baseUrl + "/refresh?year=" + year + "&countryCode=" + countryCode));
+        }
+
+        Recorder changed = new Recorder();
+        for (URI target : targets) {
+            standIn.changeData();
+            changed.time(() -> send(HttpRequest.newBuilder(target).POST(HttpRequest.BodyPublishers.noBody())));
+        }
+
+        Recorder notModified = new Recorder();
+        for (URI target : targets) {
+            send(HttpRequest.newBuilder(target).POST(HttpRequest.BodyPublishers.noBody()));
+            notModified.time(() -> send(HttpRequest.newBuilder(target).POST(HttpRequest.BodyPublishers.noBody())));
+        }
+        return new Refresh(changed.latency(), notModified.latency());
+    }
+
+    private Search search(String baseUrl, List<String> countryCodes, HolidayYearWindow yearWindow, int concurrency,
+                          Duration duration, Duration warmup) throws Exception {
+        List<Integer> years = yearWindow.years();
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+
+        List<Future<Recorder>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    Recorder recorder = new Recorder();
+                    while (System.nanoTime() < end) {
+                        URI uri = URI.create(baseUrl + "?" + searchQuery(countryCodes, years));
+                        if (System.nanoTime() < warmupEnd) {
+                            send(HttpRequest.newBuilder(uri).GET());
+                        } else {
+                            recorder.time(() -> send(HttpRequest.newBuilder(uri).GET()));
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+        }
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.addAll(future.get());
+        }
+        Latency latency = total.latency();
+        double seconds = duration.toMillis() / 1000.0;
+        return new Search(concurrency, seconds, Math.round(latency.count() / seconds * 10) / 10.0, latency);
+    }
+
+    // 연도 / 국가+연도 / 기간 / 타입+연도 필터를 섞고 앞쪽 페이지 위주로 조회
+    private static String searchQuery(List<String> countryCodes, List<Integer> years) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int year = years.get(random.nextInt(years.size()));
+        String filter = switch (random.nextInt(4)) {
+            case 0 -> "year=" + year;
+            case 1 -> "countryCode=" + countryCodes.get(random.nextInt(countryCodes.size())) + "&year=" + year;
+            case 2 -> "from=" + year + "-03-01&to=" + year + "-09-30";
+            default -> "typeCode=Public&year=" + year;
+        };
+        return filter + "&page=" + random.nextInt(5) + "&size=" + PAGE_SIZE;
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Map<String, Object> environment() {
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("javaVersion", System.getProperty("java.version"));
+        environment.put("javaVendor", System.getProperty("java.vendor"));
+        environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        environment.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        environment.put("maxMemoryMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        return environment;
+    }
+
+    private Path writeReport(LoadTestReport report) throws IOException {
+        Path dir = Path.of(option("report-dir", "build/reports/loadtest"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + report.version() + "-" + report.commit() + ".json");
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .featuresToEnable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+
+    private String option(String key, String defaultValue) {
+        return options.getOrDefault(key, defaultValue);
+    }
+
+    private int intOption(String key, int defaultValue) {
+        return Integer.parseInt(option(key, String.valueOf(defaultValue)));
+    }
+
+    private Duration durationOption(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(option(key, defaultValue));
+    }
+
+    private static void print(String label, Latency latency) {
+        print(label, "n=%d errors=%d mean=%.2f p50=%.2f p90=%.2f p99=%.2f max=%.2f ms",
+                latency.count(), latency.errors(), latency.mean(), latency.p50(), latency.p90(), latency.p99(),
+                latency.max());
+    }
+
+    private static void print(String label, String format, Object... args) {
+        System.out.printf("[loadtest] %-22s %s%n", label, format.formatted(args));
+    }
+
+    /**
+     * ApplicationStartedEvent(컨텍스트 준비 완료) ~ ApplicationReadyEvent(ApplicationRunner 종료) 시간.
+     * 초기 적재는 HolidayDataInitializer(ApplicationRunner)가 하므로 이 구간이 적재 시간이다.
+     */
+    private static final class InitialLoadTimer implements ApplicationListener<SpringApplicationEvent> {
+
+        private volatile long startedAt;
+        private volatile long readyAt;
+
+        @Override
+        public void onApplicationEvent(SpringApplicationEvent event) {
+            if (event instanceof ApplicationStartedEvent) {
+                startedAt = System.nanoTime();
+            } else if (event instanceof ApplicationReadyEvent) {
+                readyAt = System.nanoTime();
+            }
+        }
+
+        Duration elapsed() {
+            return Duration.ofNanos(readyAt - startedAt);
+        }
+    }
+
+    /**
+     * 성공(2xx) 요청의 응답 시간과 실패 수를 모은다. 한 스레드에서만 쓰고, 끝난 뒤 addAll 로 합친다.
+     */
+    private static final class Recorder {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        void time(Call call) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = call.send();
+                long elapsed = System.nanoTime() - start;
+                if (response.statusCode() / 100 == 2) {
+                    add(elapsed);
+                } else {
+                    errors++;
+                }
+            } catch (IOException e) {
+                errors++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i]);
+            }
+            errors += other.errors;
+        }
+
+        Latency latency() {
+            return Latency.of(Arrays.copyOf(nanos, count), errors);
+        }
+
+        private void add(long elapsed) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, nanos.length * 2);
+            }
+            nanos[count++] = elapsed;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+}
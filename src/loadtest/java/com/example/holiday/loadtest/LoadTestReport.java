@@ -0,0 +1,81 @@
+package com.example.holiday.loadtest;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (릴리스 간 비교용으로 JSON 저장).
+ *
+ * @param version     애플리케이션 버전
+ * @param commit      측정한 커밋
+ * @param startedAt   측정 시작 시각
+ * @param environment JVM / CPU 정보
+ * @param settings    대역 서버·부하 설정
+ * @param initialLoad 기동 시 초기 적재
+ * @param refresh     POST /api/holidays/refresh (외부 데이터 변경 / 변경 없음)
+ * @param search      GET /api/holidays 동시 조회
+ * @param standIn     대역 서버가 받은 요청 수 (재시도 포함)
+ */
+public record LoadTestReport(
+        String version,
+        String commit,
+        Instant startedAt,
+        Map<String, Object> environment,
+        Map<String, Object> settings,
+        InitialLoad initialLoad,
+        Refresh refresh,
+        Search search,
+        NagerStandIn.Stats standIn
+) {
+
+    /**
+     * @param wallTimeMs ApplicationStartedEvent ~ ApplicationReadyEvent (기동 후 초기 적재 러너 실행 시간)
+     * @param rows       적재된 공휴일 수
+     * @param rowsPerSec 초당 적재 행 수
+     */
+    public record InitialLoad(long wallTimeMs, long rows, double rowsPerSec) {
+    }
+
+    public record Refresh(Latency changed, Latency notModified) {
+    }
+
+    /**
+     * @param concurrency   동시 요청 수
+     * @param durationSec   측정 시간 (워밍업 제외)
+     * @param throughput    초당 성공 요청 수
+     * @param latency       성공 요청 응답 시간
+     */
+    public record Search(int concurrency, double durationSec, double throughput, Latency latency) {
+    }
+
+    /**
+     * 응답 시간 분포 (ms). errors 는 2xx 가 아니거나 예외로 끝난 요청 수.
+     */
+    public record Latency(int count, int errors, double mean, double p50, double p90, double p99, double max) {
+
+        static Latency of(long[] nanos, int errors) {
+            if (nanos.length == 0) {
+                return new Latency(0, errors, 0, 0, 0, 0, 0);
+            }
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return new Latency(sorted.length, errors,
+                    millis(Arrays.stream(sorted).average().orElse(0)),
+                    millis(percentile(sorted, 0.50)),
+                    millis(percentile(sorted, 0.90)),
+                    millis(percentile(sorted, 0.99)),
+                    millis(sorted[sorted.length - 1]));
+        }
+
+        // nearest-rank
+        private static long percentile(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+        }
+
+        private static double millis(double nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.holiday.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 Nager API 대역 (JDK HttpServer).
+ * - /api/v3/AvailableCountries, /api/v3/PublicHolidays/{year}/{countryCode} 를 합성 데이터로 응답
+ * - 요청마다 latency ± jitter 만큼 지연, errorRate 확률로 503
+ * - 데이터 버전 기반 ETag 를 붙이고 If-None-Match 가 같으면 304 (NagerClient 조건부 요청 경로)
+ * - changeData() 를 부르면 모든 공휴일 영문 이름이 바뀌어 다음 요청부터 새 ETag / 본문
+ */
+public class NagerStandIn implements AutoCloseable {
+
+    static final String BASE_PATH = "/api/v3";
+    private static final Pattern HOLIDAYS_PATH =
+            Pattern.compile(BASE_PATH + "/PublicHolidays/(\\d{4})/([A-Za-z]{2})");
+    private static final List<String> TYPES = List.of("Public", "Bank", "School", "Optional", "Observance");
+
+    private final Settings settings;
+    private final List<String> countryCodes;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final AtomicInteger version = new AtomicInteger();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+
+    public NagerStandIn(Settings settings) throws IOException {
+        this.settings = settings;
+        this.countryCodes = countryCodes(settings.countries());
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(BASE_PATH + "/", this::handle);
+        server.start();
+    }
+
+    /**
+     * holiday.nager.base-url 로 넘길 주소.
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public List<String> countryCodes() {
+        return countryCodes;
+    }
+
+    public void changeData() {
+        version.incrementAndGet();
+    }
+
+    public Stats stats() {
+        return new Stats(requests.sum(), injectedErrors.sum(), notModified.sum());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            delay();
+            if (settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+                injectedErrors.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals(BASE_PATH + "/AvailableCountries")) {
+                respond(exchange, "\"countries-" + settings.countries() + "\"", countries());
+                return;
+            }
+
+            Matcher matcher = HOLIDAYS_PATH.matcher(path);
+            String countryCode = matcher.matches() ? matcher.group(2).toUpperCase() : null;
+            if (countryCode == null || !countryCodes.contains(countryCode)) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            int year = Integer.parseInt(matcher.group(1));
+            int dataVersion = version.get();
+            respond(exchange, "\"v" + dataVersion + "-" + year + "-" + countryCode + "\"",
+                    holidays(year, countryCode, dataVersion));
+        }
+    }
+
+    private void respond(HttpExchange exchange, String etag, Object body) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModified.increment();
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void delay() {
+        long latency = settings.latency().toMillis();
+        long jitter = settings.jitter().toMillis();
+        long millis = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Map<String, Object>> countries() {
+        return countryCodes.stream()
+                .map(code -> Map.<String, Object>of("countryCode", code, "name", "Country " + code))
+                .toList();
+    }
+
+    // 연 holidaysPerYear 건을 1년에 고르게 배치 (국가·연도가 같으면 항상 같은 날짜 / 현지어 이름)
+    private List<Map<String, Object>> holidays(int year, String countryCode, int dataVersion) {
+        LocalDate start = LocalDate.of(year, 1, 1);
+        int perYear = settings.holidaysPerYear();
+        List<Map<String, Object>> holidays = new ArrayList<>(perYear);
+        for (int i = 0; i < perYear; i++) {
+            Map<String, Object> holiday = new LinkedHashMap<>();
+            holiday.put("date", start.plusDays((long) i * start.lengthOfYear() / perYear).toString());
+            holiday.put("localName", "휴일 " + (i + 1));
+            holiday.put("name", "Holiday " + (i + 1) + (dataVersion == 0 ? "" : " (rev " + dataVersion + ")"));
+            holiday.put("countryCode", countryCode);
+            holiday.put("fixed", i % 3 != 0);
+            holiday.put("global", i % 4 != 0);
+            holiday.put("launchYear", null);
+            holiday.put("types", List.of(TYPES.get(i % TYPES.size())));
+            holidays.add(holiday);
+        }
+        return holidays;
+    }
+
+    private static List<String> countryCodes(int count) {
+        Set<String> codes = new LinkedHashSet<>(List.of("KR", "US", "JP", "DE", "FR", "GB"));
+        for (char first = 'A'; codes.size() < count && first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z' && codes.size() < count; second++) {
+                codes.add("" + first + second);
+            }
+        }
+        return codes.stream().limit(count).toList();
+    }
+
+    /**
+     * @param countries       국가 수 (최대 676)
+     * @param holidaysPerYear 국가·연도당 공휴일 수
+     * @param latency         응답 지연 기준값
+     * @param jitter          지연에 더하거나 빼는 최대 편차 (균등 분포)
+     * @param errorRate       503 을 돌려줄 확률 (0 ~ 1)
+     */
+    public record Settings(int countries, int holidaysPerYear, Duration latency, Duration jitter, double errorRate) {
+    }
+
+    public record Stats(long requests, long injectedErrors, long notModified) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.holiday.calendar;
+
+import com.example.holiday.calendar.BusinessDayCalendar.CountryYear;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * (국가, 날짜) 쌍 대량 공휴일 확인.
+ * - 요청 본문 [{"countryCode":"KR","date":"2025-01-01"}, ...] 을 Jackson 스트리밍 파서로 읽어
+ *   국가 코드 인덱스(int) + epochDay(long) 배열로만 보관 (쌍마다 객체를 만들지 않음)
+ * - 중복을 제거한 (국가, 연도) 목록의 비트맵을 BusinessDayCalendar 에서 한 번에 가져와(미보관분은 쿼리 1회) 판정
+ * - 응답은 요청 순서대로 [{"holiday":true,"businessDay":false}, ...]
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkHolidayChecker {
+
+    private final ObjectMapper objectMapper;
+    private final BusinessDayCalendar calendar;
+    private final CalendarProperties properties;
+
+    public Result check(InputStream body) throws IOException {
+        Pairs pairs = read(body);
+
+        Set<CountryYear> keys = new LinkedHashSet<>();
+        for (int i = 0; i < pairs.size; i++) {
+            keys.add(new CountryYear(pairs.countries.get(pairs.countryIndex[i]), yearOf(pairs.epochDays[i])));
+        }
+        Map<CountryYear, HolidayBitmap> bitmaps = calendar.bitmaps(keys);
+
+        boolean[] holiday = new boolean[pairs.size];
+        boolean[] businessDay = new boolean[pairs.size];
+        for (int i = 0; i < pairs.size; i++) {
+            LocalDate date = LocalDate.ofEpochDay(pairs.epochDays[i]);
+            HolidayBitmap bitmap = bitmaps.get(new CountryYear(pairs.countries.get(pairs.countryIndex[i]), date.getYear()));
+            holiday[i] = bitmap.isHoliday(date.getDayOfYear() - 1);
+            businessDay[i] = bitmap.isBusinessDay(date.getDayOfYear() - 1);
+        }
+        return new Result(objectMapper, holiday, businessDay);
+    }
+
+    private Pairs read(InputStream body) throws IOException {
+        Pairs pairs = new Pairs();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("요청 본문은 [{\"countryCode\":..., \"date\":...}] 형식의 배열이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String countryCode = null;
+                String date = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "countryCode" -> countryCode = parser.getValueAsString();
+                        case "date" -> date = parser.getValueAsString();
+                        default -> parser.skipChildren();
+                    }
+                }
+                if (pairs.size >= properties.bulkMaxPairs()) {
+                    throw new IllegalArgumentException("한 번에 확인할 수 있는 최대 건수는 " + properties.bulkMaxPairs() + " 입니다.");
+                }
+                pairs.add(countryCode, date);
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IllegalArgumentException("요청 본문 배열 원소는 객체여야 합니다.");
+            }
+        }
+        return pairs;
+    }
+
+    private static int yearOf(long epochDay) {
+        return LocalDate.ofEpochDay(epochDay).getYear();
+    }
+
+    // 요청 쌍: 국가 코드는 인덱스로, 날짜는 epochDay 로 보관
+    private static final class Pairs {
+        private final List<String> countries = new ArrayList<>();
+        private final Map<String, Integer> countryIndexes = new HashMap<>();
+        private int[] countryIndex = new int[1024];
+        private long[] epochDays = new long[1024];
+        private int size;
+
+        void add(String countryCode, String date) {
+            if (countryCode == null || countryCode.isBlank() || date == null) {
+                throw new IllegalArgumentException(size + "번째 항목에 countryCode / date 가 없습니다.");
+            }
+            long epochDay;
+            try {
+                epochDay = LocalDate.parse(date).toEpochDay();
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException(size + "번째 항목의 date 형식이 올바르지 않습니다: " + date);
+            }
+
+            if (size == epochDays.length) {
+                countryIndex = Arrays.copyOf(countryIndex, size * 2);
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+            }
+            countryIndex[size] = countryIndexes.computeIfAbsent(countryCode.toUpperCase(), code -> {
+                countries.add(code);
+                return countries.size() - 1;
+            });
+            epochDays[size] = epochDay;
+            size++;
+        }
+    }
+
+    /**
+     * 요청 순서대로의 판정 결과.
+     */
+    public static final class Result {
+
+        private final ObjectMapper objectMapper;
+        private final boolean[] holiday;
+        private final boolean[] businessDay;
+
+        private Result(ObjectMapper objectMapper, boolean[] holiday, boolean[] businessDay) {
+            this.objectMapper = objectMapper;
+            this.holiday = holiday;
+            this.businessDay = businessDay;
+        }
+
+        public int size() {
+            return holiday.length;
+        }
+
+        public boolean holiday(int index) {
+            return holiday[index];
+        }
+
+        public boolean businessDay(int index) {
+            return businessDay[index];
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)) {
+                generator.writeStartArray();
+                for (int i = 0; i < holiday.length; i++) {
+                    generator.writeStartObject();
+                    generator.writeBooleanField("holiday", holiday[i]);
+                    generator.writeBooleanField("businessDay", businessDay[i]);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.holiday.calendar;
+
+import com.example.holiday.dto.response.CountryHolidayDate;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.service.HolidayLazyLoader;
+import com.example.holiday.service.HolidayYearWindow;
+import com.example.holiday.service.ReferenceDataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 국가별 공휴일 / 영업일 계산기.
+ * - (국가, 연도) 단위 HolidayBitmap 을 처음 조회할 때 한 번 만들어 보관하고, 이후 계산은 SQL 없이 비트 연산으로 처리
+ * - 데이터 변경 이벤트가 커밋되면 해당 (국가, 연도) 비트맵만 버리고 다음 조회 때 다시 만든다
+ * - 쓰기 트랜잭션 안에서 만든 비트맵은 커밋 전 데이터일 수 있으므로 보관하지 않음
+ * - 지연 적재 모드면 비트맵을 만들기 전에 (국가, 연도)를 적재 (HolidayLazyLoader.requireLoaded)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BusinessDayCalendar {
+
+    private final HolidayRepository holidayRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final CalendarProperties properties;
+    private final HolidayYearWindow yearWindow;
+    private final HolidayLazyLoader lazyLoader;
+
+    private final Map<CountryYear, HolidayBitmap> bitmaps = new ConcurrentHashMap<>();
+    // 변경 이벤트마다 증가. 조회 도중 변경이 커밋되면 읽은 결과를 보관하지 않기 위한 값
+    private final AtomicLong generation = new AtomicLong();
+
+    public boolean isHoliday(String countryCode, LocalDate date) {
+        return bitmap(countryCode, date.getYear()).isHoliday(date.getDayOfYear() - 1);
+    }
+
+    public boolean isBusinessDay(String countryCode, LocalDate date) {
+        return bitmap(countryCode, date.getYear()).isBusinessDay(date.getDayOfYear() - 1);
+    }
+
+    /**
+     * date 이후(date 제외) 첫 영업일.
+     */
+    public LocalDate nextBusinessDay(String countryCode, LocalDate date) {
+        return addBusinessDays(countryCode, date, 1);
+    }
+
+    /**
+     * date 이전(date 제외) 마지막 영업일.
+     */
+    public LocalDate previousBusinessDay(String countryCode, LocalDate date) {
+        return addBusinessDays(countryCode, date, -1);
+    }
+
+    /**
+     * date 에서 영업일 기준 days 만큼 이동한 날짜 (date 자신은 세지 않음). days 가 0 이면 date 그대로.
+     * 지원 연도 범위를 넘어가면 IllegalArgumentException.
+     */
+    public LocalDate addBusinessDays(String countryCode, LocalDate date, int days) {
+        if (days == 0) {
+            return date;
+        }
+
+        int year = date.getYear();
+        int remaining = Math.abs(days);
+
+        if (days > 0) {
+            int index = date.getDayOfYear();   // 다음 날부터
+            while (true) {
+                HolidayBitmap bitmap = bitmap(countryCode, year);
+                if (index < bitmap.length()) {
+                    int found = bitmap.nthBusinessDayForward(index, remaining);
+                    if (found >= 0) {
+                        return bitmap.dateOf(found);
+                    }
+                    remaining -= bitmap.countBusinessDays(index, bitmap.length() - 1);
+                }
+                year++;
+                index = 0;
+            }
+        }
+
+        int index = date.getDayOfYear() - 2;   // 전날부터
+        while (true) {
+            HolidayBitmap bitmap = bitmap(countryCode, year);
+            if (index >= 0) {
+                int found = bitmap.nthBusinessDayBackward(index, remaining);
+                if (found >= 0) {
+                    return bitmap.dateOf(found);
+                }
+                remaining -= bitmap.countBusinessDays(0, index);
+            }
+            year--;
+            index = Year.of(year).length() - 1;
+        }
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 사이 영업일 수.
+     */
+    public int countBusinessDays(String countryCode, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다. from=" + from + ", to=" + to);
+        }
+
+        int count = 0;
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            HolidayBitmap bitmap = bitmap(countryCode, year);
+            int fromIndex = year == from.getYear() ? from.getDayOfYear() - 1 : 0;
+            int toIndex = year == to.getYear() ? to.getDayOfYear() - 1 : bitmap.length() - 1;
+            count += bitmap.countBusinessDays(fromIndex, toIndex);
+        }
+        return count;
+    }
+
+    public HolidayBitmap bitmap(String countryCode, int year) {
+        CountryYear key = new CountryYear(countryCode, year);
+        HolidayBitmap cached = bitmaps.get(key);
+        return cached != null ? cached : bitmaps(List.of(key)).get(key);
+    }
+
+    /**
+     * 여러 (국가, 연도)의 비트맵을 한 번에 조회. 보관되지 않은 것들은 쿼리 한 번으로 만든다.
+     */
+    public Map<CountryYear, HolidayBitmap> bitmaps(Collection<CountryYear> keys) {
+        Map<CountryYear, HolidayBitmap> result = new HashMap<>();
+        Set<CountryYear> missing = new LinkedHashSet<>();
+        for (CountryYear key : keys) {
+            HolidayBitmap cached = bitmaps.get(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else if (!missing.contains(key)) {
+                validate(key);
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        // 적재 전에 만들면 "공휴일 없음" 비트맵이 보관되므로 먼저 적재
+        lazyLoader.requireLoaded(missing.stream().collect(Collectors.groupingBy(CountryYear::countryCode,
+                Collectors.mapping(CountryYear::year, Collectors.toSet()))));
+
+        long observedGeneration = generation.get();
+        Map<CountryYear, List<LocalDate>> dates = load(missing);
+        boolean cacheable = isCommittedRead() && generation.get() == observedGeneration;
+
+        for (CountryYear key : missing) {
+            HolidayBitmap bitmap = new HolidayBitmap(key.year(), dates.getOrDefault(key, List.of()),
+                    properties.weekendOf(key.countryCode()));
+            result.put(key, bitmap);
+            if (cacheable) {
+                bitmaps.put(key, bitmap);
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        bitmaps.keySet().removeIf(key -> event.affects(key.countryCode(), key.year()));
+    }
+
+    private Map<CountryYear, List<LocalDate>> load(Set<CountryYear> keys) {
+        Set<String> countryCodes = keys.stream().map(CountryYear::countryCode).collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<Integer> years = keys.stream().map(CountryYear::year).collect(Collectors.toCollection(LinkedHashSet::new));
+
+        return holidayRepository.findGlobalHolidayDates(countryCodes, years, properties.holidayTypes()).stream()
+                .collect(Collectors.groupingBy(
+                        row -> new CountryYear(row.countryCode(), row.date().getYear()),
+                        Collectors.mapping(CountryHolidayDate::date, Collectors.toList())));
+    }
+
+    private void validate(CountryYear key) {
+        yearWindow.validate(key.year());
+        if (referenceDataCache.findCountry(key.countryCode()).isEmpty()) {
+            throw new IllegalArgumentException("Unknown country code: " + key.countryCode());
+        }
+    }
+
+    // 트랜잭션 밖이거나 읽기 전용 트랜잭션이면 커밋된 데이터만 읽었다고 본다
+    private static boolean isCommittedRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public record CountryYear(String countryCode, int year) {
+    }
+}
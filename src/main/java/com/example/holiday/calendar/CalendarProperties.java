@@ -0,0 +1,35 @@
+package com.example.holiday.calendar;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 영업일 계산 설정 (holiday.calendar.*).
+ *
+ * @param weekend          기본 주말 요일
+ * @param weekendByCountry 주말이 다른 국가의 요일 (예: AE=SATURDAY,SUNDAY / IL=FRIDAY,SATURDAY)
+ * @param holidayTypes     쉬는 날로 보는 공휴일 타입 (비어 있으면 전체). 지역 공휴일(global=false)은 항상 제외
+ * @param bulkMaxPairs     대량 확인(POST /api/holidays/check) 한 요청의 최대 쌍 수
+ */
+@ConfigurationProperties(prefix = "holiday.calendar")
+public record CalendarProperties(
+        Set<DayOfWeek> weekend,
+        Map<String, Set<DayOfWeek>> weekendByCountry,
+        Set<String> holidayTypes,
+        int bulkMaxPairs
+) {
+
+    public CalendarProperties {
+        weekend = weekend == null ? Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY) : Set.copyOf(weekend);
+        weekendByCountry = weekendByCountry == null ? Map.of() : Map.copyOf(weekendByCountry);
+        holidayTypes = holidayTypes == null ? Set.of("Public") : Set.copyOf(holidayTypes);
+        bulkMaxPairs = bulkMaxPairs <= 0 ? 100_000 : bulkMaxPairs;
+    }
+
+    public Set<DayOfWeek> weekendOf(String countryCode) {
+        return weekendByCountry.getOrDefault(countryCode, weekend);
+    }
+}
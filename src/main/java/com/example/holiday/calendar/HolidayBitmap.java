@@ -0,0 +1,140 @@
+package com.example.holiday.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 한 국가·한 연도의 공휴일 / 영업일 비트맵 (불변).
+ * 비트 i 는 그 해의 (i + 1) 번째 날 (dayOfYear - 1) 이며, 366 비트를 long 6 개에 담는다.
+ * - holidays: 공휴일 여부
+ * - businessDays: 주말도 공휴일도 아닌 날
+ * 조회는 비트 하나, 구간 계산은 word 단위 bitCount 로 처리한다.
+ */
+public final class HolidayBitmap {
+
+    private static final int WORDS = 6;
+
+    private final int year;
+    private final int length;
+    private final long[] holidays = new long[WORDS];
+    private final long[] businessDays = new long[WORDS];
+
+    public HolidayBitmap(int year, Collection<LocalDate> holidayDates, Set<DayOfWeek> weekend) {
+        this.year = year;
+        this.length = Year.of(year).length();
+
+        for (LocalDate date : holidayDates) {
+            if (date.getYear() == year) {
+                set(holidays, date.getDayOfYear() - 1);
+            }
+        }
+
+        LocalDate day = LocalDate.of(year, 1, 1);
+        for (int i = 0; i < length; i++, day = day.plusDays(1)) {
+            if (!weekend.contains(day.getDayOfWeek()) && !get(holidays, i)) {
+                set(businessDays, i);
+            }
+        }
+    }
+
+    public int year() {
+        return year;
+    }
+
+    /**
+     * 그 해의 날 수 (365 / 366).
+     */
+    public int length() {
+        return length;
+    }
+
+    public boolean isHoliday(int dayIndex) {
+        return get(holidays, dayIndex);
+    }
+
+    public boolean isBusinessDay(int dayIndex) {
+        return get(businessDays, dayIndex);
+    }
+
+    /**
+     * [fromIndex, toIndex] 구간(양 끝 포함)의 영업일 수.
+     */
+    public int countBusinessDays(int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            return 0;
+        }
+        int fromWord = fromIndex >>> 6;
+        int toWord = toIndex >>> 6;
+        int count = 0;
+        for (int w = fromWord; w <= toWord; w++) {
+            long word = businessDays[w];
+            if (w == fromWord) {
+                word &= -1L << fromIndex;
+            }
+            if (w == toWord) {
+                word &= -1L >>> (63 - (toIndex & 63));
+            }
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * fromIndex 이후(포함) n 번째 영업일 위치. 이 해 안에 n 개가 없으면 -1.
+     */
+    public int nthBusinessDayForward(int fromIndex, int n) {
+        int remaining = n;
+        for (int w = fromIndex >>> 6; w < WORDS; w++) {
+            long word = businessDays[w];
+            if (w == fromIndex >>> 6) {
+                word &= -1L << fromIndex;
+            }
+            int bits = Long.bitCount(word);
+            if (bits >= remaining) {
+                for (int k = 1; k < remaining; k++) {
+                    word &= word - 1;   // 가장 낮은 비트 제거
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            remaining -= bits;
+        }
+        return -1;
+    }
+
+    /**
+     * fromIndex 이전(포함) n 번째 영업일 위치. 이 해 안에 n 개가 없으면 -1.
+     */
+    public int nthBusinessDayBackward(int fromIndex, int n) {
+        int remaining = n;
+        for (int w = fromIndex >>> 6; w >= 0; w--) {
+            long word = businessDays[w];
+            if (w == fromIndex >>> 6) {
+                word &= -1L >>> (63 - (fromIndex & 63));
+            }
+            int bits = Long.bitCount(word);
+            if (bits >= remaining) {
+                for (int k = 1; k < remaining; k++) {
+                    word &= ~Long.highestOneBit(word);   // 가장 높은 비트 제거
+                }
+                return (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+            remaining -= bits;
+        }
+        return -1;
+    }
+
+    public LocalDate dateOf(int dayIndex) {
+        return LocalDate.ofYearDay(year, dayIndex + 1);
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+}
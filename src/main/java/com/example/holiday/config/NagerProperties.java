@@ -0,0 +1,84 @@
+package com.example.holiday.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Nager API 클라이언트 설정 (holiday.nager.*).
+ *
+ * @param baseUrl               API 기본 주소
+ * @param connectTimeout        TCP 연결 타임아웃
+ * @param responseTimeout       응답을 읽는 동안 읽기 사이 최대 대기 시간 (read timeout)
+ * @param requestTimeout        요청 1회(재시도 1번)의 전체 제한 시간
+ * @param maxConnections        커넥션 풀 최대 연결 수
+ * @param pendingAcquireTimeout 풀에서 연결을 얻기까지 최대 대기 시간
+ * @param retry                 5xx / 429 / 타임아웃 / 연결 오류 재시도
+ * @param lanes                 호출 종류별 bulkhead + rate limit
+ */
+@ConfigurationProperties(prefix = "holiday.nager")
+public record NagerProperties(
+        String baseUrl,
+        Duration connectTimeout,
+        Duration responseTimeout,
+        Duration requestTimeout,
+        int maxConnections,
+        Duration pendingAcquireTimeout,
+        Retry retry,
+        Lanes lanes
+) {
+
+    public NagerProperties {
+        baseUrl = baseUrl == null || baseUrl.isBlank() ? "https://date.nager.at/api/v3" : baseUrl;
+        connectTimeout = connectTimeout == null ? Duration.ofSeconds(3) : connectTimeout;
+        responseTimeout = responseTimeout == null ? Duration.ofSeconds(10) : responseTimeout;
+        requestTimeout = requestTimeout == null ? Duration.ofSeconds(15) : requestTimeout;
+        maxConnections = maxConnections <= 0 ? 32 : maxConnections;
+        pendingAcquireTimeout = pendingAcquireTimeout == null ? Duration.ofSeconds(10) : pendingAcquireTimeout;
+        retry = retry == null ? new Retry(0, null, null, 0) : retry;
+        lanes = lanes == null ? new Lanes(null, null) : lanes;
+    }
+
+    /**
+     * @param maxAttempts    최초 요청 포함 최대 시도 횟수 (1 이면 재시도 없음)
+     * @param initialBackoff 첫 재시도 전 대기 시간 (이후 2배씩 증가)
+     * @param maxBackoff     재시도 대기 시간 상한
+     * @param jitter         대기 시간에 더하는 무작위 비율 (0 ~ 1)
+     */
+    public record Retry(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double jitter) {
+
+        public Retry {
+            maxAttempts = maxAttempts <= 0 ? 3 : maxAttempts;
+            initialBackoff = initialBackoff == null ? Duration.ofMillis(200) : initialBackoff;
+            maxBackoff = maxBackoff == null ? Duration.ofSeconds(2) : maxBackoff;
+            jitter = jitter <= 0 || jitter > 1 ? 0.5 : jitter;
+        }
+    }
+
+    /**
+     * interactive: refresh 등 사용자 요청 / batch: 초기 적재·연간 배치.
+     * 두 lane 은 동시 호출 수와 초당 호출 수를 따로 가지므로 배치가 몰려도 사용자 요청 몫은 남는다.
+     */
+    public record Lanes(Lane interactive, Lane batch) {
+
+        public Lanes {
+            interactive = interactive == null ? new Lane(4, 5, 5, Duration.ofSeconds(5)) : interactive;
+            batch = batch == null ? new Lane(16, 15, 15, Duration.ofSeconds(60)) : batch;
+        }
+    }
+
+    /**
+     * @param maxConcurrent    동시에 진행할 수 있는 호출 수 (bulkhead)
+     * @param permitsPerSecond 초당 호출 수 (0 이하면 제한 없음)
+     * @param burst            쉬고 있던 동안 모아 둘 수 있는 최대 호출 수
+     * @param maxWait          bulkhead 자리를 기다리는 최대 시간
+     */
+    public record Lane(int maxConcurrent, double permitsPerSecond, int burst, Duration maxWait) {
+
+        public Lane {
+            maxConcurrent = Math.max(1, maxConcurrent);
+            burst = burst <= 0 ? Math.max(1, (int) Math.ceil(permitsPerSecond)) : burst;
+            maxWait = maxWait == null ? Duration.ofSeconds(30) : maxWait;
+        }
+    }
+}
@@ -1,16 +1,37 @@
 package com.example.holiday.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Spring Boot 가 구성한 WebClient.Builder 를 받아 관측(http.client.requests 지표)이 적용되도록 한다.
+     */
     @Bean
-    public WebClient nagerWebClient() {
-        return WebClient.builder()
-                .baseUrl("https://date.nager.at/api/v3")
+    public WebClient nagerWebClient(WebClient.Builder builder, NagerProperties properties) {
+        // 연결 수 상한 + 풀 대기 시간 제한: 외부 API 가 느려져도 연결이 무한히 늘거나 대기하지 않도록
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("nager")
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .responseTimeout(properties.responseTimeout());
+
+        return builder
+                .baseUrl(properties.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+}
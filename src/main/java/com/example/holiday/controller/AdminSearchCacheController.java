@@ -0,0 +1,47 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.dto.response.SearchCacheResponse;
+import com.example.holiday.search.HolidaySearchCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/search-cache")
+@RequiredArgsConstructor
+public class AdminSearchCacheController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final HolidaySearchCache searchCache;
+
+    @Operation(
+            summary = "검색 결과 캐시 상태 조회",
+            description = """
+                    GET /api/holidays 결과 캐시의 설정, 항목 수, 적중률(기동 이후 누적)과
+                    자주 쓰이는 순서의 항목(검색 조건 + 페이지)을 반환합니다.
+                    """
+    )
+    @GetMapping
+    public ResponseEntity<SearchCacheResponse> inspect(
+            @Parameter(description = "반환할 항목 수 (최대 1000)")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(SearchCacheResponse.from(searchCache, Math.clamp(limit, 0, MAX_LIMIT)));
+    }
+
+    @Operation(
+            summary = "검색 결과 캐시 비우기",
+            description = "모든 항목을 버립니다. 다음 검색부터 DB 를 조회해 다시 채웁니다."
+    )
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        searchCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.snapshot.DataSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/snapshot")
+@RequiredArgsConstructor
+public class AdminSnapshotController {
+
+    private final DataSnapshotService dataSnapshotService;
+
+    @Operation(
+            summary = "데이터 스냅샷 내려받기",
+            description = """
+                    국가 / 공휴일 타입 / 공휴일 전체를 압축 바이너리 스냅샷으로 내려받습니다.
+                    파일을 holiday.snapshot.path 로 지정하면 다음 기동 시 외부 API 없이 바로 적재합니다.
+                    """
+    )
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export() {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("holidays-" + LocalDate.now() + ".hksnap")
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(dataSnapshotService::export);
+    }
+}
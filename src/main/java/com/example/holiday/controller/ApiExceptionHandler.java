@@ -0,0 +1,27 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.service.RefreshQueueFullException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 일시적인 거절을 재시도 가능한 응답으로 변환 (그 외 예외는 스프링 기본 오류 응답).
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    /**
+     * refresh 대기열이 가득 참 → 503 + Retry-After (초).
+     */
+    @ExceptionHandler(RefreshQueueFullException.class)
+    public ResponseEntity<ProblemDetail> refreshQueueFull(RefreshQueueFullException e) {
+        long retryAfterSeconds = Math.max(1, e.getRetryAfter().toSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+}
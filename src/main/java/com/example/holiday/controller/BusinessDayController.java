@@ -0,0 +1,123 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.calendar.BusinessDayCalendar;
+import com.example.holiday.dto.response.BusinessDayCountResponse;
+import com.example.holiday.dto.response.BusinessDayResponse;
+import com.example.holiday.dto.response.HolidayCheckResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/business-days")
+@RequiredArgsConstructor
+public class BusinessDayController {
+
+    private final BusinessDayCalendar businessDayCalendar;
+
+    @Operation(
+            summary = "공휴일 / 영업일 여부",
+            description = "해당 국가에서 date 가 전국 공휴일인지, 영업일(주말·공휴일이 아닌 날)인지 반환합니다."
+    )
+    @GetMapping("/check")
+    public ResponseEntity<HolidayCheckResponse> check(
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam String countryCode,
+
+            @Parameter(description = "날짜 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        String code = countryCode.toUpperCase();
+        return ResponseEntity.ok(new HolidayCheckResponse(
+                code,
+                date,
+                businessDayCalendar.isHoliday(code, date),
+                businessDayCalendar.isBusinessDay(code, date)
+        ));
+    }
+
+    @Operation(summary = "다음 영업일", description = "date 이후(date 제외) 첫 영업일을 반환합니다.")
+    @GetMapping("/next")
+    public ResponseEntity<BusinessDayResponse> next(
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam String countryCode,
+
+            @Parameter(description = "기준 날짜 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        String code = countryCode.toUpperCase();
+        return ResponseEntity.ok(new BusinessDayResponse(code, date, 1,
+                businessDayCalendar.nextBusinessDay(code, date)));
+    }
+
+    @Operation(summary = "이전 영업일", description = "date 이전(date 제외) 마지막 영업일을 반환합니다.")
+    @GetMapping("/previous")
+    public ResponseEntity<BusinessDayResponse> previous(
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam String countryCode,
+
+            @Parameter(description = "기준 날짜 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date
+    ) {
+        String code = countryCode.toUpperCase();
+        return ResponseEntity.ok(new BusinessDayResponse(code, date, -1,
+                businessDayCalendar.previousBusinessDay(code, date)));
+    }
+
+    @Operation(
+            summary = "영업일 더하기",
+            description = "date 에서 영업일 기준으로 days 만큼 이동한 날짜를 반환합니다. 음수면 과거 방향입니다."
+    )
+    @GetMapping("/add")
+    public ResponseEntity<BusinessDayResponse> add(
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam String countryCode,
+
+            @Parameter(description = "기준 날짜 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate date,
+
+            @Parameter(description = "이동할 영업일 수 (음수 가능)")
+            @RequestParam int days
+    ) {
+        String code = countryCode.toUpperCase();
+        return ResponseEntity.ok(new BusinessDayResponse(code, date, days,
+                businessDayCalendar.addBusinessDays(code, date, days)));
+    }
+
+    @Operation(summary = "영업일 수", description = "from ~ to (양 끝 포함) 사이의 영업일 수를 반환합니다.")
+    @GetMapping("/count")
+    public ResponseEntity<BusinessDayCountResponse> count(
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam String countryCode,
+
+            @Parameter(description = "시작일 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+
+            @Parameter(description = "종료일 (yyyy-MM-dd)")
+            @RequestParam
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to
+    ) {
+        String code = countryCode.toUpperCase();
+        return ResponseEntity.ok(new BusinessDayCountResponse(code, from, to,
+                businessDayCalendar.countBusinessDays(code, from, to)));
+    }
+}
@@ -1,30 +1,82 @@
 package com.example.holiday.controller;
 
+import com.example.holiday.calendar.BulkHolidayChecker;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayCursorPageResponse;
 import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.dto.response.RefreshJobResponse;
+import com.example.holiday.search.VersionedPage;
+import com.example.holiday.service.ExportFormat;
+import com.example.holiday.service.HolidayDataVersion;
+import com.example.holiday.service.HolidayExportService;
+import com.example.holiday.service.HolidayLazyLoader;
 import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.RefreshJob;
+import com.example.holiday.service.RefreshJobService;
+import com.example.holiday.service.SyncResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import lombok.RequiredArgsConstructor;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/holidays")
-@RequiredArgsConstructor
 public class HolidayController {
 
     private final HolidayService holidayService;
+    private final BulkHolidayChecker bulkHolidayChecker;
+    private final HolidayExportService holidayExportService;
+    private final HolidayDataVersion dataVersion;
+    private final RefreshJobService refreshJobService;
+    private final HolidayLazyLoader lazyLoader;
+    private final CacheControl searchCacheControl;
+
+    public HolidayController(HolidayService holidayService,
+                             BulkHolidayChecker bulkHolidayChecker,
+                             HolidayExportService holidayExportService,
+                             HolidayDataVersion dataVersion,
+                             RefreshJobService refreshJobService,
+                             HolidayLazyLoader lazyLoader,
+                             @Value("${holiday.search.cache-max-age:0s}") Duration searchCacheMaxAge) {
+        this.holidayService = holidayService;
+        this.bulkHolidayChecker = bulkHolidayChecker;
+        this.holidayExportService = holidayExportService;
+        this.dataVersion = dataVersion;
+        this.refreshJobService = refreshJobService;
+        this.lazyLoader = lazyLoader;
+        // max-age 0 이면 매번 재검증(ETag → 304), 그 이상이면 그 시간 동안 CDN / 클라이언트 캐시 사용
+        this.searchCacheControl = searchCacheMaxAge.isZero()
+                ? CacheControl.noCache().cachePublic()
+                : CacheControl.maxAge(searchCacheMaxAge).cachePublic().mustRevalidate();
+    }
 
     @Operation(
             summary = "공휴일 검색",
             description = """
                     연도, 국가 코드, 기간(from ~ to), 타입 코드로 공휴일을 검색합니다.
                     모든 파라미터는 선택이며, 페이징(page, size)과 함께 사용할 수 있습니다.
+                    응답에는 데이터 버전 기반 ETag 가 붙고, If-None-Match 가 현재 버전과 같으면 검색 없이 304 를 반환합니다.
+                    지연 적재 모드(holiday.load.mode=lazy)에서는 국가 코드가 있으면 적재되지 않은 연도를 먼저 적재합니다.
                     """
     )
     @GetMapping
@@ -53,9 +105,22 @@ public class HolidayController {
 
             @Parameter(description = "페이징 파라미터")
             @PageableDefault(size = 20, sort = "date", direction = Sort.Direction.ASC)
-            Pageable pageable
+            Pageable pageable,
+
+            WebRequest webRequest
     ) {
-        Page<HolidayResponse> result = holidayService.search(
+        // 지연 적재 모드면 검색할 (국가, 연도)를 먼저 채운 뒤 버전을 읽는다
+        lazyLoader.ensureLoaded(new HolidaySearchCondition(year, countryCode, from, to, typeCode));
+
+        // 현재 버전의 ETag 를 가진 클라이언트는 최신 데이터를 갖고 있으므로 검색 없이 304
+        String currentEtag = dataVersion.etag();
+        if (ifNoneMatch(webRequest, currentEtag)) {
+            return notModified(currentEtag);
+        }
+
+        // 응답 ETag 는 실제로 응답한 스냅샷 / 캐시 항목 / DB 조회의 버전
+        // (교체 전 스냅샷이 응답하면 현재 버전보다 오래된 ETag 가 나가 다음 요청에서 다시 받는다)
+        VersionedPage result = holidayService.searchVersioned(
                 year,
                 countryCode,
                 from,
@@ -63,18 +128,192 @@ public class HolidayController {
                 typeCode,
                 pageable
         );
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok()
+                .eTag(result.etag())
+                .cacheControl(searchCacheControl)
+                .body(result.page());
+    }
+
+    @Operation(
+            summary = "공휴일 검색 (커서 페이징)",
+            description = """
+                    검색 조건은 GET /api/holidays 와 같으며, OFFSET 대신 커서로 다음 페이지를 조회합니다.
+                    응답의 nextCursor 를 다음 요청의 after 로 넘기면 되고, 깊은 페이지도 페이지당 비용이 일정합니다.
+                    전체 건수는 includeTotal=true 일 때만 계산합니다.
+                    """
+    )
+    @GetMapping("/cursor")
+    public ResponseEntity<HolidayCursorPageResponse> searchByCursor(
+            @Parameter(description = "연도 (예: 2025)")
+            @RequestParam(required = false)
+            Integer year,
+
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam(required = false)
+            String countryCode,
+
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+
+            @Parameter(description = "공휴일 타입 코드 (예: Public)")
+            @RequestParam(required = false)
+            String typeCode,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false)
+            String after,
+
+            @Parameter(description = "페이지 크기 (최대 1000)")
+            @RequestParam(defaultValue = "20")
+            int size,
+
+            @Parameter(description = "전체 건수 포함 여부")
+            @RequestParam(defaultValue = "false")
+            boolean includeTotal,
+
+            WebRequest webRequest
+    ) {
+        HolidaySearchCondition condition = new HolidaySearchCondition(year, countryCode, from, to, typeCode);
+        lazyLoader.ensureLoaded(condition);
+
+        String etag = dataVersion.etag();
+        if (ifNoneMatch(webRequest, etag)) {
+            return notModified(etag);
+        }
+
+        HolidayCursorPageResponse result = holidayService.searchByCursor(
+                condition,
+                after,
+                size,
+                includeTotal
+        );
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(searchCacheControl)
+                .body(result);
+    }
+
+    @Operation(
+            summary = "공휴일 export (NDJSON / CSV)",
+            description = """
+                    검색 조건(GET /api/holidays 와 동일)에 맞는 공휴일 전체를 (날짜, id) 순으로 스트리밍합니다.
+                    페이징·건수 조회 없이 DB 커서에서 읽는 대로 바로 내려보내므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+                    gzip=true 이면 Content-Encoding: gzip 으로 압축합니다.
+                    """
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "연도 (예: 2025)")
+            @RequestParam(required = false)
+            Integer year,
+
+            @Parameter(description = "국가 코드 (예: KR, US)")
+            @RequestParam(required = false)
+            String countryCode,
+
+            @Parameter(description = "조회 시작일 (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate from,
+
+            @Parameter(description = "조회 종료일 (yyyy-MM-dd)")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate to,
+
+            @Parameter(description = "공휴일 타입 코드 (예: Public)")
+            @RequestParam(required = false)
+            String typeCode,
+
+            @Parameter(description = "형식: ndjson | csv")
+            @RequestParam(defaultValue = "ndjson")
+            String format,
+
+            @Parameter(description = "gzip 압축 여부")
+            @RequestParam(defaultValue = "false")
+            boolean gzip
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        HolidaySearchCondition condition = new HolidaySearchCondition(year, countryCode, from, to, typeCode);
+        lazyLoader.ensureLoaded(condition);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, exportFormat.contentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("holidays." + exportFormat.extension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        return response.body(out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 64 * 1024);
+                holidayExportService.export(condition, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                holidayExportService.export(condition, exportFormat, out);
+            }
+        });
+    }
+
+    @Operation(
+            summary = "공휴일 대량 확인",
+            description = """
+                    (국가 코드, 날짜) 쌍 배열을 받아 각 쌍이 전국 공휴일 / 영업일인지 요청 순서대로 반환합니다.
+                    같은 (국가, 연도)는 한 번만 조회하므로 수천 건도 한 번의 요청으로 확인할 수 있습니다.
+                    """,
+            requestBody = @RequestBody(description = "[{\"countryCode\":\"KR\",\"date\":\"2025-01-01\"}, ...]")
+    )
+    @PostMapping(value = "/check", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> checkBulk(HttpServletRequest request) throws IOException {
+        BulkHolidayChecker.Result result = bulkHolidayChecker.check(request.getInputStream());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(result::writeTo);
     }
 
     @Operation(
             summary = "특정 연도·국가 공휴일 재동기화",
-            description = "특정 연도와 국가에 대한 공휴일 데이터를 외부 API에서 다시 조회하여 기존 데이터를 덮어씁니다."
+            description = """
+                    특정 연도와 국가에 대한 공휴일 데이터를 외부 API에서 다시 조회하여 기존 데이터에 반영합니다.
+                    추가·수정·삭제·변경 없음 행 수를 반환합니다.
+                    async=true 이면 기다리지 않고 202 와 작업 ID 를 반환하며, 상태는 /refresh/jobs/{jobId} 로 조회합니다.
+                    같은 연도·국가 refresh 가 진행 중이면 새로 실행하지 않고 그 작업에 합류합니다.
+                    """
     )
     @PostMapping("/refresh")
-    public ResponseEntity<Void> refresh(        @RequestParam int year,
-                                                @RequestParam String countryCode) {
-        holidayService.refresh(year, countryCode);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<?> refresh(  @RequestParam int year,
+                                       @RequestParam String countryCode,
+                                       @RequestParam(defaultValue = "false") boolean async) {
+        if (!async) {
+            SyncResult result = refreshJobService.refresh(year, countryCode);
+            return ResponseEntity.ok(result);
+        }
+
+        RefreshJob job = refreshJobService.submit(year, countryCode);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/holidays/refresh/jobs/" + job.getId()))
+                .body(RefreshJobResponse.from(job));
+    }
+
+    @Operation(
+            summary = "비동기 재동기화 작업 상태 조회",
+            description = "QUEUED / RUNNING / SUCCEEDED / FAILED 상태와, 끝났으면 결과(행 수) 또는 오류 메시지를 반환합니다."
+    )
+    @GetMapping("/refresh/jobs/{jobId}")
+    public ResponseEntity<RefreshJobResponse> refreshJob(@PathVariable String jobId) {
+        return refreshJobService.find(jobId)
+                .map(job -> ResponseEntity.ok(RefreshJobResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(
@@ -90,5 +329,24 @@ public class HolidayController {
         return ResponseEntity.noContent().build();
     }
 
-}
+    // 304 에도 ETag / Cache-Control 을 다시 실어 캐시가 유효 기간을 갱신하도록
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(searchCacheControl)
+                .build();
+    }
 
+    // If-None-Match 에 etag 가 있는지 (약한 비교). WebRequest.checkNotModified 는 비교한 ETag 를 응답 헤더에 먼저 써서
+    // 200 응답에 실제로 응답한 데이터의 ETag 를 붙일 수 없으므로 직접 비교한다
+    private static boolean ifNoneMatch(WebRequest webRequest, String etag) {
+        String header = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (header == null) {
+            return false;
+        }
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
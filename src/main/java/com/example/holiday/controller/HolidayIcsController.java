@@ -0,0 +1,81 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.service.IcsFeedService;
+import com.example.holiday.service.IcsFeedService.IcsFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/holidays/ics")
+@RequiredArgsConstructor
+public class HolidayIcsController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final IcsFeedService icsFeedService;
+
+    @Operation(summary = "국가별 공휴일 iCalendar 피드", description = "해당 국가의 저장된 전체 연도 공휴일을 .ics 로 반환합니다.")
+    @GetMapping("/{countryCode}.ics")
+    public ResponseEntity<byte[]> country(
+            @Parameter(description = "국가 코드 (예: KR)")
+            @PathVariable String countryCode,
+            WebRequest webRequest
+    ) {
+        return respond(icsFeedService.feed(List.of(countryCode), null), webRequest);
+    }
+
+    @Operation(summary = "국가·연도별 공휴일 iCalendar 피드")
+    @GetMapping("/{countryCode}/{year}.ics")
+    public ResponseEntity<byte[]> countryYear(
+            @Parameter(description = "국가 코드 (예: KR)")
+            @PathVariable String countryCode,
+
+            @Parameter(description = "연도 (예: 2025)")
+            @PathVariable int year,
+            WebRequest webRequest
+    ) {
+        return respond(icsFeedService.feed(List.of(countryCode), year), webRequest);
+    }
+
+    @Operation(
+            summary = "여러 국가 공휴일 iCalendar 피드",
+            description = "countryCode 를 여러 번(또는 쉼표로) 지정합니다. year 를 생략하면 전체 연도입니다."
+    )
+    @GetMapping
+    public ResponseEntity<byte[]> countries(
+            @Parameter(description = "국가 코드 목록 (예: KR,US)")
+            @RequestParam List<String> countryCode,
+
+            @Parameter(description = "연도 (예: 2025)")
+            @RequestParam(required = false) Integer year,
+            WebRequest webRequest
+    ) {
+        return respond(icsFeedService.feed(countryCode, year), webRequest);
+    }
+
+    // 피드 ETag 가 같으면 304, 아니면 캐시된 바이트를 그대로 응답
+    private ResponseEntity<byte[]> respond(IcsFeed feed, WebRequest webRequest) {
+        CacheControl cacheControl = CacheControl.noCache().cachePublic();
+        if (webRequest.checkNotModified(feed.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.etag())
+                .cacheControl(cacheControl)
+                .body(feed.body());
+    }
+}
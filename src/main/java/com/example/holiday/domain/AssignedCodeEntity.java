@@ -0,0 +1,31 @@
+package com.example.holiday.domain;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 코드(문자열 PK)를 직접 할당하는 엔티티 (Country, HolidayType) 공통.
+ * id 가 처음부터 채워져 있으므로 Spring Data 는 기본적으로 기존 엔티티로 보고 save() 를 merge(SELECT 후 INSERT)로 처리한다.
+ * 로드 / 저장 콜백으로 신규 여부를 직접 관리해 save() 가 바로 persist(INSERT) 하도록 한다.
+ * 상태 필드는 이 클래스에만 있으므로 하위 엔티티의 빌더 / 생성자로는 설정할 수 없다.
+ */
+@MappedSuperclass
+public abstract class AssignedCodeEntity implements Persistable<String> {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -1,10 +1,7 @@
 package com.example.holiday.domain;
 
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -17,7 +14,7 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(name = "country")
-public class Country {
+public class Country extends AssignedCodeEntity {
     @Id
     @Column(length = 2, nullable = false)
     private String code;
@@ -37,4 +34,8 @@ public class Country {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    @Override
+    public String getId() {
+        return code;
+    }
 }
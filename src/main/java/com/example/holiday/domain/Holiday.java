@@ -8,6 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 
 @Getter
@@ -25,14 +26,27 @@ import java.time.LocalDateTime;
         }
 )
 public class Holiday {
+    // IDENTITY 는 INSERT 마다 즉시 실행되어 JDBC 배치가 꺼지므로 pooled 시퀀스 사용
+    // (allocationSize = hibernate.jdbc.batch_size: 시퀀스 조회 1번으로 배치 1개 분량의 id 확보)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "holiday_seq")
+    @SequenceGenerator(name = "holiday_seq", sequenceName = "holiday_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "country_code", nullable = false)
     private Country country;
 
+    // 조회 조건용 FK 컬럼 (읽기 전용). country / type 을 조인한 쿼리에서도 조인 테이블이 아닌
+    // holiday 의 컬럼으로 걸러야 holiday 인덱스(V2__holiday_search_indexes.sql)를 탄다
+    @Getter(AccessLevel.NONE)
+    @Column(name = "country_code", insertable = false, updatable = false)
+    private String countryCode;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "type_code", insertable = false, updatable = false)
+    private String typeCode;
+
     //공휴일 날짜
     @Column(name = "holiday_date", nullable = false)
     private LocalDate date;
@@ -73,9 +87,33 @@ public class Holiday {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * 외부 API 값으로 갱신 (유니크 키인 국가/날짜/현지어 이름은 그대로).
+     * 실제로 바뀐 값이 있을 때만 true 를 반환하며, 그때만 UPDATE 가 나간다.
+     */
+    public boolean updateFrom(String name, HolidayType type, boolean fixed, boolean global, Integer launchYear) {
+        String typeCode = type != null ? type.getCode() : null;
+        String currentTypeCode = this.type != null ? this.type.getCode() : null;
+
+        if (Objects.equals(this.name, name)
+                && Objects.equals(currentTypeCode, typeCode)
+                && this.fixed == fixed
+                && this.global == global
+                && Objects.equals(this.launchYear, launchYear)) {
+            return false;
+        }
+
+        this.name = name;
+        this.type = type;
+        this.fixed = fixed;
+        this.global = global;
+        this.launchYear = launchYear;
+        return true;
+    }
+
     public static class HolidayBuilder {
         public Holiday build() {
-            Holiday h = new Holiday(id, country, date, year, localName, name, type,
+            Holiday h = new Holiday(id, country, null, null, date, year, localName, name, type,
                     fixed, global, launchYear, null, null);
             h.year = h.date.getYear();
             return h;
@@ -1,10 +1,7 @@
 package com.example.holiday.domain;
 
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.Id;
-import jakarta.persistence.Table;
+import jakarta.persistence.*;
 import lombok.*;
 
 @Getter
@@ -13,10 +10,14 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "holiday_type")
-public class HolidayType {
+public class HolidayType extends AssignedCodeEntity {
 
     @Id
     @Column(length = 32)
     private String code;
 
+    @Override
+    public String getId() {
+        return code;
+    }
 }
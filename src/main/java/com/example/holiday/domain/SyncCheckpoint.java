@@ -0,0 +1,93 @@
+package com.example.holiday.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 작업(job)의 (연도, 국가) 단위 진행 상태.
+ * 단위 처리와 DONE 기록은 같은 트랜잭션에서 커밋되므로, DONE 이 아닌 단위는 DB 에 반영되지 않은 것으로 본다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Entity
+@Table(
+        name = "sync_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_sync_checkpoint_job_year_country",
+                        columnNames = {"job_name", "holiday_year", "country_code"}
+                )
+        }
+)
+public class SyncCheckpoint {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // 작업 계획 시 단위 수백 건을 한 번에 INSERT 하므로 Holiday 와 같이 pooled 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sync_checkpoint_seq")
+    @SequenceGenerator(name = "sync_checkpoint_seq", sequenceName = "sync_checkpoint_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 16)
+    private SyncJobType jobType;
+
+    @Column(name = "holiday_year", nullable = false)
+    private int year;
+
+    @Column(name = "country_code", nullable = false, length = 2)
+    private String countryCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncStatus status;
+
+    // 처리 시도 횟수 (성공 포함)
+    @Column(nullable = false)
+    private int attempt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public static SyncCheckpoint pending(String jobName, SyncJobType jobType, int year, String countryCode) {
+        return SyncCheckpoint.builder()
+                .jobName(jobName)
+                .jobType(jobType)
+                .year(year)
+                .countryCode(countryCode)
+                .status(SyncStatus.PENDING)
+                .attempt(0)
+                .build();
+    }
+
+    public void complete() {
+        this.status = SyncStatus.DONE;
+        this.attempt++;
+        this.lastError = null;
+    }
+
+    public void fail(String error) {
+        this.status = SyncStatus.FAILED;
+        this.attempt++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH
+                ? error
+                : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
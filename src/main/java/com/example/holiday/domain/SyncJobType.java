@@ -0,0 +1,11 @@
+package com.example.holiday.domain;
+
+/**
+ * 동기화 작업 종류. 재시작 후 이어서 실행할 때 단위별 처리 방식을 결정한다.
+ * - INITIAL_LOAD: 비어 있는 연도/국가에 일괄 저장
+ * - RESYNC: 기존 데이터에 반영 (holiday.sync.mode)
+ */
+public enum SyncJobType {
+    INITIAL_LOAD,
+    RESYNC
+}
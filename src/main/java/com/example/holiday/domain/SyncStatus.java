@@ -0,0 +1,10 @@
+package com.example.holiday.domain;
+
+/**
+ * 동기화 작업 단위(SyncCheckpoint) 상태.
+ */
+public enum SyncStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
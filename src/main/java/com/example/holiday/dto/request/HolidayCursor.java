@@ -0,0 +1,31 @@
+package com.example.holiday.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이징 위치: 마지막으로 내려준 행의 (holiday_date, id).
+ * 클라이언트에는 내용을 알 수 없는 토큰(Base64 URL)으로 전달한다.
+ */
+public record HolidayCursor(LocalDate date, long id) {
+
+    public String encode() {
+        String raw = date + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HolidayCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new HolidayCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.holiday.dto.request;
+
+import java.time.LocalDate;
+
+/**
+ * 공휴일 검색 조건. 모든 값은 선택(null 이면 조건 없음).
+ */
+public record HolidaySearchCondition(
+        Integer year,
+        String countryCode,
+        LocalDate from,
+        LocalDate to,
+        String typeCode
+) {
+
+    /**
+     * 국가 코드는 대문자로, 빈 문자열은 null 로 정규화.
+     */
+    public HolidaySearchCondition normalized() {
+        return new HolidaySearchCondition(
+                year,
+                isBlank(countryCode) ? null : countryCode.toUpperCase(),
+                from,
+                to,
+                isBlank(typeCode) ? null : typeCode
+        );
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.holiday.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * from ~ to (양 끝 포함) 사이의 영업일 수.
+ */
+public record BusinessDayCountResponse(
+        String countryCode,
+        LocalDate from,
+        LocalDate to,
+        int businessDays
+) {
+}
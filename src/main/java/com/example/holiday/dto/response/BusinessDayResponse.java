@@ -0,0 +1,14 @@
+package com.example.holiday.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * date 에서 영업일 기준으로 days 만큼 이동한 결과 (다음 영업일 = 1, 이전 영업일 = -1).
+ */
+public record BusinessDayResponse(
+        String countryCode,
+        LocalDate date,
+        int days,
+        LocalDate businessDay
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.holiday.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * (국가, 공휴일 날짜) 프로젝션. 영업일 비트맵 구성용.
+ */
+public record CountryHolidayDate(
+        String countryCode,
+        LocalDate date
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.holiday.dto.response;
+
+/**
+ * 외부 API에서 조회한 (연도, 국가) 단위 공휴일 목록.
+ */
+public record CountryYearHolidays(
+        int year,
+        String countryCode,
+        PublicHolidays holidays
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.holiday.dto.response;
+
+import java.time.LocalDate;
+
+public record HolidayCheckResponse(
+        String countryCode,
+        LocalDate date,
+        boolean holiday,
+        boolean businessDay
+) {
+}
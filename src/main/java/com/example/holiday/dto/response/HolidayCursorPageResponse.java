@@ -0,0 +1,17 @@
+package com.example.holiday.dto.response;
+
+import java.util.List;
+
+/**
+ * 커서 페이징 응답.
+ * - nextCursor: 다음 페이지 요청 시 after 로 넘길 토큰 (마지막 페이지면 null)
+ * - totalElements: includeTotal=true 로 요청한 경우에만 채움
+ */
+public record HolidayCursorPageResponse(
+        List<HolidayResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long totalElements
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.holiday.dto.response;
+
+import java.util.List;
+
+/**
+ * 외부 API 공휴일 목록 응답과, 그 본문을 담은 응답 캐시 항목의 version.
+ * 반영 기록(NagerResponseCache.markApplied)은 이 version 으로 남겨, 조회 이후 새로 저장된 본문을 반영된 것으로 표시하지 않는다.
+ *
+ * @param cacheVersion 캐시하지 않은 응답(캐시 비활성, ETag / Last-Modified 없음)이면 null
+ */
+public record PublicHolidays(
+        List<NagerHolidayResponse> holidays,
+        Long cacheVersion
+) {
+
+    public static PublicHolidays uncached(List<NagerHolidayResponse> holidays) {
+        return new PublicHolidays(holidays, null);
+    }
+}
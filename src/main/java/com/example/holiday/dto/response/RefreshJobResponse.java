@@ -0,0 +1,36 @@
+package com.example.holiday.dto.response;
+
+import com.example.holiday.service.RefreshJob;
+import com.example.holiday.service.SyncResult;
+
+import java.time.Instant;
+
+/**
+ * 비동기 refresh 작업 상태. result 는 SUCCEEDED, error 는 FAILED 일 때만 채워진다.
+ */
+public record RefreshJobResponse(
+        String jobId,
+        int year,
+        String countryCode,
+        RefreshJob.Status status,
+        SyncResult result,
+        String error,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt
+) {
+
+    public static RefreshJobResponse from(RefreshJob job) {
+        return new RefreshJobResponse(
+                job.getId(),
+                job.getYear(),
+                job.getCountryCode(),
+                job.getStatus(),
+                job.getResult(),
+                job.getError(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.holiday.dto.response;
+
+import com.example.holiday.search.HolidaySearchCache;
+import com.example.holiday.search.HolidaySearchCache.SearchKey;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 검색 결과 캐시 상태. 적중·실패·밀려난 수는 기동 이후 누적값.
+ *
+ * @param hottest 자주 쓰이는 순서의 항목 (최대 요청한 개수)
+ */
+public record SearchCacheResponse(
+        boolean enabled,
+        int maxEntries,
+        Duration ttl,
+        long size,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        List<Entry> hottest
+) {
+
+    public static SearchCacheResponse from(HolidaySearchCache cache, int limit) {
+        CacheStats stats = cache.stats();
+        List<Entry> hottest = cache.hottest(limit).entrySet().stream()
+                .map(entry -> Entry.of(entry.getKey(), entry.getValue().page().getNumberOfElements(),
+                        entry.getValue().page().getTotalElements()))
+                .toList();
+
+        return new SearchCacheResponse(
+                cache.isEnabled(),
+                cache.maxEntries(),
+                cache.ttl(),
+                cache.size(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                hottest
+        );
+    }
+
+    /**
+     * 캐시 항목 하나 (검색 조건 + 페이지, 보관 중인 결과 크기).
+     */
+    public record Entry(
+            Integer year,
+            String countryCode,
+            LocalDate from,
+            LocalDate to,
+            String typeCode,
+            int page,
+            int size,
+            String sort,
+            int contentSize,
+            long totalElements
+    ) {
+
+        static Entry of(SearchKey key, int contentSize, long totalElements) {
+            return new Entry(
+                    key.condition().year(),
+                    key.condition().countryCode(),
+                    key.condition().from(),
+                    key.condition().to(),
+                    key.condition().typeCode(),
+                    key.page(),
+                    key.size(),
+                    key.sort().toString(),
+                    contentSize,
+                    totalElements
+            );
+        }
+    }
+}
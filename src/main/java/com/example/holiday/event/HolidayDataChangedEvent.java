@@ -0,0 +1,22 @@
+package com.example.holiday.event;
+
+/**
+ * holiday 테이블 데이터가 바뀌었음을 알리는 이벤트.
+ * 트랜잭션 안에서 발행되며, 캐시·인덱스는 커밋 이후(@TransactionalEventListener) 반영한다.
+ * countryCode / year 가 null 이면 해당 축 전체가 바뀐 것으로 본다.
+ */
+public record HolidayDataChangedEvent(String countryCode, Integer year) {
+
+    public static HolidayDataChangedEvent all() {
+        return new HolidayDataChangedEvent(null, null);
+    }
+
+    /**
+     * (countryCode, year) 데이터가 이 변경의 영향을 받는지 여부. 인자가 null 이면 "전체"를 뜻한다.
+     */
+    public boolean affects(String countryCode, Integer year) {
+        boolean countryMatches = this.countryCode == null || countryCode == null || this.countryCode.equals(countryCode);
+        boolean yearMatches = this.year == null || year == null || this.year.equals(year);
+        return countryMatches && yearMatches;
+    }
+}
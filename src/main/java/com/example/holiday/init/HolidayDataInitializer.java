@@ -1,28 +1,127 @@
 package com.example.holiday.init;
 
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.service.HolidayLazyLoader;
 import com.example.holiday.service.HolidayService;
-import lombok.RequiredArgsConstructor;
+import com.example.holiday.service.HolidayYearWindow;
+import com.example.holiday.service.ReferenceDataCache;
+import com.example.holiday.snapshot.DataSnapshot;
+import com.example.holiday.snapshot.DataSnapshotService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class HolidayDataInitializer implements ApplicationRunner {
 
     private final HolidayService holidayService;
+    private final ReferenceDataCache referenceDataCache;
+    private final DataSnapshotService dataSnapshotService;
+    private final HolidayRepository holidayRepository;
+    private final HolidayLazyLoader lazyLoader;
+    private final HolidayYearWindow yearWindow;
+    private final String snapshotPath;
+    private final boolean syncAfterSnapshot;
+
+    public HolidayDataInitializer(HolidayService holidayService,
+                                  ReferenceDataCache referenceDataCache,
+                                  DataSnapshotService dataSnapshotService,
+                                  HolidayRepository holidayRepository,
+                                  HolidayLazyLoader lazyLoader,
+                                  HolidayYearWindow yearWindow,
+                                  @Value("${holiday.snapshot.path:}") String snapshotPath,
+                                  @Value("${holiday.snapshot.sync-after-load:false}") boolean syncAfterSnapshot) {
+        this.holidayService = holidayService;
+        this.referenceDataCache = referenceDataCache;
+        this.dataSnapshotService = dataSnapshotService;
+        this.holidayRepository = holidayRepository;
+        this.lazyLoader = lazyLoader;
+        this.yearWindow = yearWindow;
+        this.snapshotPath = snapshotPath;
+        this.syncAfterSnapshot = syncAfterSnapshot;
+    }
 
     @Override
     public void run(ApplicationArguments args) {
-        log.info("[HolidayDataInitializer] 초기 공휴일 데이터 적재 시작");
+        // 1) 스냅샷 파일이 있으면 외부 API 없이 바로 적재, 실패하거나 없으면 외부 API 초기 적재로 대체
+        if (loadSnapshotIfEmpty()) {
+            if (syncAfterSnapshot) {
+                syncInBackground();
+            }
+        } else if (lazyLoader.isLazy()) {
+            // 지연 적재: 국가 목록만 적재하고 공휴일은 검색될 때 (국가, 연도) 단위로 적재
+            try {
+                holidayService.loadCountriesIfEmpty();
+            } catch (Exception e) {
+                log.error("[HolidayDataInitializer] 국가 목록 적재 중 예외 발생", e);
+            }
+        } else {
+            log.info("[HolidayDataInitializer] 초기 공휴일 데이터 적재 시작");
+
+            try {
+                holidayService.initialLoadIfEmpty();
+                log.info("[HolidayDataInitializer] 초기 공휴일 데이터 적재 완료 (이미 데이터가 있으면 스킵) - 참조 데이터 캐시 {}",
+                        referenceDataCache.stats());
+            } catch (Exception e) {
+                log.error("[HolidayDataInitializer] 초기 데이터 적재 중 예외 발생", e);
+            }
+        }
 
+        if (lazyLoader.isLazy()) {
+            lazyLoader.registerExisting();
+        }
+
+        // 재시작 전에 끝나지 않은 연간 배치는 남은 단위부터 이어서 실행 (수동 재동기화 작업은 기록만 정리)
         try {
-            holidayService.initialLoadIfEmpty();
-            log.info("[HolidayDataInitializer] 초기 공휴일 데이터 적재 완료 (이미 데이터가 있으면 스킵)");
+            holidayService.resumeIncompleteResyncJobs()
+                    .forEach(report -> log.info("[HolidayDataInitializer] 중단된 연간 배치 재개 결과 - {}", report));
         } catch (Exception e) {
-            log.error("[HolidayDataInitializer] 초기 데이터 적재 중 예외 발생", e);
+            log.error("[HolidayDataInitializer] 중단된 재동기화 작업 정리 중 예외 발생", e);
         }
     }
+
+    private boolean loadSnapshotIfEmpty() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return false;
+        }
+        Path path = Path.of(snapshotPath);
+        if (!Files.isRegularFile(path)) {
+            log.warn("[HolidayDataInitializer] 스냅샷 파일 없음, 외부 API 로 적재 - path={}", path);
+            return false;
+        }
+        if (holidayRepository.count() > 0) {
+            return false;
+        }
+
+        long started = System.nanoTime();
+        try (InputStream in = Files.newInputStream(path)) {
+            DataSnapshot snapshot = dataSnapshotService.load(in);
+            log.info("[HolidayDataInitializer] 스냅샷 적재 완료 - path={}, holidays={}, elapsed={}ms",
+                    path, snapshot.holidays().size(), (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } catch (Exception e) {
+            log.error("[HolidayDataInitializer] 스냅샷 적재 실패, 외부 API 로 적재 - path={}", path, e);
+            return false;
+        }
+    }
+
+    // 스냅샷 이후 바뀐 공휴일만 반영 (reconcile), 기동은 기다리지 않음
+    private void syncInBackground() {
+        List<Integer> years = yearWindow.years();
+        Thread.ofVirtual().name("holiday-snapshot-sync").start(() -> {
+            try {
+                log.info("[HolidayDataInitializer] 스냅샷 이후 변경분 동기화 완료 - {}", holidayService.syncAllCountries(years));
+            } catch (Exception e) {
+                log.error("[HolidayDataInitializer] 스냅샷 이후 변경분 동기화 실패", e);
+            }
+        });
+    }
 }
@@ -0,0 +1,74 @@
+package com.example.holiday.metrics;
+
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.HolidayRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연도별 공휴일 행 수 게이지 (holiday.dataset.rows, year 태그).
+ * - 기동 후 한 번, 이후 데이터 변경 이벤트가 커밋되면 백그라운드에서 연도별 건수를 다시 센다
+ *   (연속된 변경은 한 번의 집계로 합침, 스크레이프마다 DB 를 조회하지 않음)
+ * - 행이 사라진 연도는 게이지에서도 제거
+ */
+@Slf4j
+@Component
+public class HolidayDatasetMetrics {
+
+    private final HolidayRepository holidayRepository;
+    private final MultiGauge rowsByYear;
+
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("holiday-dataset-metrics").daemon().factory());
+
+    public HolidayDatasetMetrics(HolidayRepository holidayRepository, MeterRegistry registry) {
+        this.holidayRepository = holidayRepository;
+        this.rowsByYear = MultiGauge.builder("holiday.dataset.rows")
+                .description("연도별 공휴일 행 수")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        // 이미 대기 중인 집계가 있으면 그 집계가 이번 변경까지 읽는다
+        if (refreshRequested.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                refreshRequested.set(false);
+                refresh();
+            });
+        }
+    }
+
+    public void refresh() {
+        try {
+            rowsByYear.register(holidayRepository.countByYear().entrySet().stream()
+                    .map(entry -> MultiGauge.Row.of(Tags.of("year", String.valueOf(entry.getKey())), entry.getValue()))
+                    .toList(), true);
+        } catch (RuntimeException e) {
+            // 이전 값을 유지하고 다음 변경 이벤트 때 다시 시도
+            log.warn("[HolidayDatasetMetrics] 연도별 건수 집계 실패 - {}", e.toString());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
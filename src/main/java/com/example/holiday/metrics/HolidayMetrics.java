@@ -0,0 +1,154 @@
+package com.example.holiday.metrics;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.service.SyncJobEngine.SyncJobReport;
+import com.example.holiday.service.SyncResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 애플리케이션 지표 (Micrometer, /actuator/prometheus 로 노출).
+ * - holiday.sync / holiday.sync.rows / holiday.sync.failures: (국가, 연도) 단위 동기화 시간·반영 행 수·실패 수
+ * - holiday.search: 공휴일 검색 시간 (있던 조건 조합 filters, 응답 경로 source 태그)
+ * - holiday.scheduler.*: 연간 배치 실행 요약
+ * 외부 API 호출은 WebClient 관측(http.client.requests, uri 템플릿 / status 태그)으로 기록된다.
+ */
+@Component
+public class HolidayMetrics {
+
+    private final MeterRegistry registry;
+    private final AtomicLong lastSchedulerSuccess = new AtomicLong();
+
+    public HolidayMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("holiday.scheduler.last.success", lastSchedulerSuccess, AtomicLong::get)
+                .description("연간 배치가 마지막으로 실패 없이 끝난 시각 (epoch seconds, 0: 없음)")
+                .register(registry);
+    }
+
+    /**
+     * (국가, 연도) 단위 동기화 1건.
+     *
+     * @param job   initial_load / resync / refresh / lazy_load
+     * @param nanos 단위 처리 시간 (refresh 는 외부 API 조회 포함, 배치는 조회 이후 DB 반영 ~ 커밋)
+     */
+    public void recordSync(String job, int year, String countryCode, long nanos, SyncResult result) {
+        Tags tags = Tags.of("job", job, "country", countryCode, "year", String.valueOf(year));
+        Timer.builder("holiday.sync")
+                .description("(국가, 연도) 단위 동기화 시간")
+                .tags(tags.and("outcome", outcome(result)))
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        incrementRows(tags, "inserted", result.inserted());
+        incrementRows(tags, "updated", result.updated());
+        incrementRows(tags, "deleted", result.deleted());
+        incrementRows(tags, "unchanged", result.unchanged());
+    }
+
+    public void recordSyncFailure(String job, int year, String countryCode) {
+        Counter.builder("holiday.sync.failures")
+                .description("(국가, 연도) 단위 동기화 실패 수")
+                .tags("job", job, "country", countryCode, "year", String.valueOf(year))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 검색 1건.
+     *
+     * @param source memory(메모리 스냅샷) / cache(검색 결과 캐시) / db
+     */
+    public void recordSearch(HolidaySearchCondition condition, String source, long nanos) {
+        Timer.builder("holiday.search")
+                .description("공휴일 검색 시간")
+                .tags("filters", filters(condition), "source", source)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 연간 배치 실행 1회. report 가 null 이면 대상 연도가 없어 건너뛴 실행.
+     */
+    public void recordSchedulerRun(long nanos, SyncJobReport report) {
+        String outcome = report == null ? "skipped" : report.failed() > 0 ? "partial" : "success";
+        recordSchedulerRun(nanos, outcome);
+        if (report == null) {
+            return;
+        }
+
+        incrementSchedulerUnits("completed", report.completed());
+        incrementSchedulerUnits("failed", report.failed());
+        if (report.failed() == 0) {
+            lastSchedulerSuccess.set(Instant.now().getEpochSecond());
+        }
+    }
+
+    public void recordSchedulerError(long nanos) {
+        recordSchedulerRun(nanos, "error");
+    }
+
+    private void recordSchedulerRun(long nanos, String outcome) {
+        Timer.builder("holiday.scheduler.run")
+                .description("연간 배치 실행 시간")
+                .tags("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void incrementSchedulerUnits(String status, int count) {
+        Counter.builder("holiday.scheduler.units")
+                .description("연간 배치에서 처리한 (국가, 연도) 단위 수")
+                .tags("status", status)
+                .register(registry)
+                .increment(count);
+    }
+
+    private void incrementRows(Tags tags, String change, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("holiday.sync.rows")
+                .description("동기화로 반영한 공휴일 행 수")
+                .tags(tags.and("change", change))
+                .register(registry)
+                .increment(count);
+    }
+
+    private static String outcome(SyncResult result) {
+        if (result.notModified() > 0) {
+            return "not_modified";
+        }
+        return result.changed() ? "changed" : "unchanged";
+    }
+
+    // 조건 조합을 고정된 순서의 이름 목록으로 (예: year+country, 없으면 none)
+    static String filters(HolidaySearchCondition condition) {
+        StringJoiner filters = new StringJoiner("+");
+        if (condition.year() != null) {
+            filters.add("year");
+        }
+        if (condition.countryCode() != null) {
+            filters.add("country");
+        }
+        if (condition.from() != null) {
+            filters.add("from");
+        }
+        if (condition.to() != null) {
+            filters.add("to");
+        }
+        if (condition.typeCode() != null) {
+            filters.add("type");
+        }
+        return filters.length() == 0 ? "none" : filters.toString();
+    }
+}
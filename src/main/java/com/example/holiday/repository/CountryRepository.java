@@ -2,6 +2,23 @@ package com.example.holiday.repository;
 
 import com.example.holiday.domain.Country;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CountryRepository extends JpaRepository<Country, String> {
+
+    /**
+     * 없으면 INSERT, 있으면 기존 행(name / created_at / updated_at)을 그대로 두고 0 을 반환.
+     * INSERT IGNORE 는 중복 키 행만 건너뛰므로, 동시에 같은 코드로 호출되어도 먼저 들어간 행의 커밋을 기다렸다가 오류 없이 끝난다.
+     * (NOT EXISTS 조건 / MERGE ... WHEN NOT MATCHED 는 서로의 커밋 전 행을 보지 못해 중복 키 오류가 난다)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO country (code, name, created_at, updated_at)
+            VALUES (:code, :name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("code") String code, @Param("name") String name);
 }
@@ -1,13 +1,25 @@
 package com.example.holiday.repository;
 
 import com.example.holiday.domain.Holiday;
+import com.example.holiday.dto.request.HolidayCursor;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.CountryHolidayDate;
+import com.example.holiday.dto.response.HolidayResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface HolidayRepositoryCustom {
 
+    /**
+     * 엔티티(국가 / 타입 fetch join) 페이징 검색. 응답만 필요하면 searchResponses 를 사용.
+     */
     Page<Holiday> search(
             Integer year,
             String countryCode,
@@ -16,5 +28,63 @@ public interface HolidayRepositoryCustom {
             String typeCode,
             Pageable pageable
     );
-    void deleteByCountryCodeAndYear(String countryCode, int year);
+
+    /**
+     * 페이징 검색을 응답 컬럼만 골라 HolidayResponse 로 바로 조회 (엔티티 생성·영속성 컨텍스트 관리 없음).
+     * 첫 페이지가 페이지 크기보다 적게 차면 건수 쿼리를 생략.
+     */
+    Page<HolidayResponse> searchResponses(HolidaySearchCondition condition, Pageable pageable);
+
+    /**
+     * 커서(keyset) 페이징: (holiday_date, id) 순서에서 after 다음 행부터 limit 건 조회.
+     * after 가 null 이면 처음부터.
+     */
+    List<Holiday> searchAfter(HolidaySearchCondition condition, HolidayCursor after, int limit);
+
+    long count(HolidaySearchCondition condition);
+
+    /**
+     * 전체 공휴일을 (holiday_date, id) 순서의 응답 DTO 로 조회 (엔티티 생성 없이 프로젝션).
+     * 메모리 검색 인덱스(HolidaySnapshot) 구성용.
+     */
+    List<HolidayResponse> findAllResponses();
+
+    /**
+     * 조건에 맞는 행 전체를 (holiday_date, id) 순서의 응답 DTO 로 조회 (페이징 없음).
+     */
+    List<HolidayResponse> findResponses(HolidaySearchCondition condition);
+
+    /**
+     * 조건에 맞는 행을 (holiday_date, id) 순서의 응답 DTO 스트림으로 조회 (전진 전용 커서, 고정 fetch size).
+     * 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+     */
+    Stream<HolidayResponse> streamResponses(HolidaySearchCondition condition);
+
+    /**
+     * 국가·연도 목록에 해당하는 전국 공휴일(global = true) 날짜를 한 번에 조회.
+     * typeCodes 가 비어 있으면 타입 조건 없음.
+     */
+    List<CountryHolidayDate> findGlobalHolidayDates(Collection<String> countryCodes,
+                                                    Collection<Integer> years,
+                                                    Collection<String> typeCodes);
+
+    List<Holiday> findByCountryCodeAndYear(String countryCode, int year);
+
+    /**
+     * 연도별 행 수 (연도 오름차순). 운영 지표(holiday.dataset.rows)용.
+     */
+    Map<Integer, Long> countByYear();
+
+    /**
+     * 행이 있는 (국가, 연도) 목록을 국가별 연도 집합으로. 지연 적재(HolidayLazyLoader)의 적재 완료 목록 초기화용.
+     */
+    Map<String, Set<Integer>> findYearsByCountry();
+
+    long deleteByCountryCodeAndYear(String countryCode, int year);
+
+    /**
+     * year 연도 행을 최대 limit 건 삭제하고 삭제한 행 수를 반환 (호출마다 별도 트랜잭션으로 커밋).
+     * 지원 연도 창 밖 연도를 잠금·undo 부담 없이 나눠 지울 때 사용.
+     */
+    long deleteByYear(int year, int limit);
 }
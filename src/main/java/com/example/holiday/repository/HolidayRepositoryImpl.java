@@ -4,23 +4,49 @@ import com.example.holiday.domain.Holiday;
 import com.example.holiday.domain.QCountry;
 import com.example.holiday.domain.QHoliday;
 import com.example.holiday.domain.QHolidayType;
+import com.example.holiday.dto.request.HolidayCursor;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.CountryHolidayDate;
+import com.example.holiday.dto.response.HolidayResponse;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPADeleteClause;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
-import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@RequiredArgsConstructor
 public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
+    private final int streamFetchSize;
 
+    public HolidayRepositoryImpl(JPAQueryFactory queryFactory,
+                                 EntityManager em,
+                                 @Value("${holiday.export.fetch-size:1000}") int streamFetchSize) {
+        this.queryFactory = queryFactory;
+        this.em = em;
+        this.streamFetchSize = streamFetchSize;
+    }
+
+    // 서비스 계층이 트랜잭션 없이 호출하므로 (메모리 검색 경로가 커넥션을 잡지 않도록) 여기서 읽기 트랜잭션 시작
     @Override
+    @Transactional(readOnly = true)
     public Page<Holiday> search(
             Integer year,
             String countryCode,
@@ -34,22 +60,7 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
         QHolidayType type = QHolidayType.holidayType;
 
         // 동적 where 조건
-        BooleanBuilder builder = new BooleanBuilder();
-        if (year != null) {
-            builder.and(holiday.year.eq(year));
-        }
-        if (countryCode != null && !countryCode.isBlank()) {
-            builder.and(holiday.country.code.eq(countryCode));
-        }
-        if (from != null) {
-            builder.and(holiday.date.goe(from));
-        }
-        if (to != null) {
-            builder.and(holiday.date.loe(to));
-        }
-        if (typeCode != null && !typeCode.isBlank()) {
-            builder.and(holiday.type.code.eq(typeCode));
-        }
+        BooleanBuilder builder = where(new HolidaySearchCondition(year, countryCode, from, to, typeCode));
 
         // content 조회 (fetch join으로 N+1 방지)
         List<Holiday> content = queryFactory
@@ -62,12 +73,10 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
                 .orderBy(holiday.date.asc(), holiday.id.asc())
                 .fetch();
 
-        // total count
+        // total count (조건은 모두 holiday 컬럼이라 조인 불필요)
         Long total = queryFactory
                 .select(holiday.count())
                 .from(holiday)
-                .leftJoin(holiday.country, country)
-                .leftJoin(holiday.type, type)
                 .where(builder)
                 .fetchOne();
 
@@ -77,12 +86,206 @@ public class HolidayRepositoryImpl implements HolidayRepositoryCustom {
     }
 
     @Override
-    public void deleteByCountryCodeAndYear(String countryCode, int year) {
+    @Transactional(readOnly = true)
+    public Page<HolidayResponse> searchResponses(HolidaySearchCondition condition, Pageable pageable) {
+        List<HolidayResponse> content = selectResponses(where(condition))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition));
+    }
+
+    @Override
+    public List<Holiday> searchAfter(HolidaySearchCondition condition, HolidayCursor after, int limit) {
+        QHoliday holiday = QHoliday.holiday;
+
+        BooleanBuilder builder = where(condition);
+        if (after != null) {
+            // (date, id) > (afterDate, afterId): 앞의 date >= 조건으로 인덱스 범위 탐색, 같은 날짜는 id 로 구분
+            builder.and(holiday.date.goe(after.date()))
+                    .and(holiday.date.gt(after.date()).or(holiday.id.gt(after.id())));
+        }
+
+        return queryFactory
+                .selectFrom(holiday)
+                .leftJoin(holiday.country, QCountry.country).fetchJoin()
+                .leftJoin(holiday.type, QHolidayType.holidayType).fetchJoin()
+                .where(builder)
+                .orderBy(holiday.date.asc(), holiday.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long count(HolidaySearchCondition condition) {
+        QHoliday holiday = QHoliday.holiday;
+
+        Long total = queryFactory
+                .select(holiday.count())
+                .from(holiday)
+                .where(where(condition))
+                .fetchOne();
+
+        return total == null ? 0L : total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HolidayResponse> findAllResponses() {
+        return selectResponses(new BooleanBuilder()).fetch();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HolidayResponse> findResponses(HolidaySearchCondition condition) {
+        return selectResponses(where(condition)).fetch();
+    }
+
+    @Override
+    public Stream<HolidayResponse> streamResponses(HolidaySearchCondition condition) {
+        return selectResponses(where(condition))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CountryHolidayDate> findGlobalHolidayDates(Collection<String> countryCodes,
+                                                           Collection<Integer> years,
+                                                           Collection<String> typeCodes) {
+        QHoliday holiday = QHoliday.holiday;
+
+        BooleanBuilder builder = new BooleanBuilder()
+                .and(holiday.countryCode.in(countryCodes))
+                .and(holiday.year.in(years))
+                .and(holiday.global.isTrue());
+        if (!typeCodes.isEmpty()) {
+            builder.and(holiday.typeCode.in(typeCodes));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(CountryHolidayDate.class, holiday.country.code, holiday.date))
+                .from(holiday)
+                .where(builder)
+                .fetch();
+    }
+
+    @Override
+    public List<Holiday> findByCountryCodeAndYear(String countryCode, int year) {
         QHoliday h = QHoliday.holiday;
 
-        new JPADeleteClause(em, h)
-                .where(h.country.code.eq(countryCode)
+        return queryFactory
+                .selectFrom(h)
+                .where(h.countryCode.eq(countryCode)
+                        .and(h.year.eq(year)))
+                .fetch();
+    }
+
+    @Override
+    public Map<Integer, Long> countByYear() {
+        QHoliday h = QHoliday.holiday;
+
+        return queryFactory
+                .select(h.year, h.count())
+                .from(h)
+                .groupBy(h.year)
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(row -> row.get(h.year), row -> row.get(h.count()),
+                        (first, second) -> first, TreeMap::new));
+    }
+
+    @Override
+    public Map<String, Set<Integer>> findYearsByCountry() {
+        QHoliday h = QHoliday.holiday;
+
+        return queryFactory
+                .select(h.countryCode, h.year)
+                .distinct()
+                .from(h)
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(row -> row.get(h.countryCode), TreeMap::new,
+                        Collectors.mapping(row -> row.get(h.year), Collectors.toCollection(TreeSet::new))));
+    }
+
+    @Override
+    public long deleteByCountryCodeAndYear(String countryCode, int year) {
+        QHoliday h = QHoliday.holiday;
+
+        return new JPADeleteClause(em, h)
+                .where(h.countryCode.eq(countryCode)
                         .and(h.year.eq(year)))
                 .execute();
     }
+
+    @Override
+    @Transactional
+    public long deleteByYear(int year, int limit) {
+        QHoliday h = QHoliday.holiday;
+
+        // (holiday_year, holiday_date, id) 인덱스로 한 배치 분량의 id 만 고른 뒤 PK 로 삭제
+        List<Long> ids = queryFactory
+                .select(h.id)
+                .from(h)
+                .where(h.year.eq(year))
+                .limit(limit)
+                .fetch();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return new JPADeleteClause(em, h)
+                .where(h.id.in(ids))
+                .execute();
+    }
+
+    // HolidayResponse 프로젝션 (엔티티 생성 없이), (holiday_date, id) 순서
+    private JPAQuery<HolidayResponse> selectResponses(BooleanBuilder where) {
+        QHoliday holiday = QHoliday.holiday;
+        QCountry country = QCountry.country;
+        QHolidayType type = QHolidayType.holidayType;
+
+        return queryFactory
+                .select(Projections.constructor(HolidayResponse.class,
+                        holiday.id,
+                        country.code,
+                        country.name,
+                        holiday.date,
+                        holiday.year,
+                        holiday.localName,
+                        holiday.name,
+                        type.code,
+                        holiday.fixed,
+                        holiday.global,
+                        holiday.launchYear))
+                .from(holiday)
+                .join(holiday.country, country)
+                .leftJoin(holiday.type, type)
+                .where(where)
+                .orderBy(holiday.date.asc(), holiday.id.asc());
+    }
+
+    private BooleanBuilder where(HolidaySearchCondition condition) {
+        QHoliday holiday = QHoliday.holiday;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        if (condition.year() != null) {
+            builder.and(holiday.year.eq(condition.year()));
+        }
+        if (condition.countryCode() != null && !condition.countryCode().isBlank()) {
+            builder.and(holiday.countryCode.eq(condition.countryCode()));
+        }
+        if (condition.from() != null) {
+            builder.and(holiday.date.goe(condition.from()));
+        }
+        if (condition.to() != null) {
+            builder.and(holiday.date.loe(condition.to()));
+        }
+        if (condition.typeCode() != null && !condition.typeCode().isBlank()) {
+            builder.and(holiday.typeCode.eq(condition.typeCode()));
+        }
+        return builder;
+    }
 }
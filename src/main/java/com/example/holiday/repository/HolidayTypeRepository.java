@@ -2,6 +2,18 @@ package com.example.holiday.repository;
 
 import com.example.holiday.domain.HolidayType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface HolidayTypeRepository extends JpaRepository<HolidayType, String> {
+
+    /**
+     * 없으면 INSERT, 있으면 0 을 반환 (CountryRepository.insertIfAbsent 와 같은 INSERT IGNORE).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO holiday_type (code) VALUES (:code)", nativeQuery = true)
+    int insertIfAbsent(@Param("code") String code);
 }
@@ -0,0 +1,50 @@
+package com.example.holiday.repository;
+
+import com.example.holiday.domain.SyncCheckpoint;
+import com.example.holiday.domain.SyncJobType;
+import com.example.holiday.domain.SyncStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface SyncCheckpointRepository extends JpaRepository<SyncCheckpoint, Long> {
+
+    List<SyncCheckpoint> findByJobName(String jobName);
+
+    /**
+     * 아직 끝나지 않았고 재시도 횟수가 남은 단위.
+     */
+    @Query("""
+            select c from SyncCheckpoint c
+            where c.jobName = :jobName and c.status <> :done and c.attempt < :maxAttempts
+            order by c.year, c.countryCode
+            """)
+    List<SyncCheckpoint> findRunnable(@Param("jobName") String jobName,
+                                      @Param("done") SyncStatus done,
+                                      @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 실행할 단위가 남은 작업 (이름, 종류).
+     */
+    @Query("""
+            select distinct c.jobName as jobName, c.jobType as jobType from SyncCheckpoint c
+            where c.status <> :done and c.attempt < :maxAttempts
+            """)
+    List<IncompleteJob> findIncompleteJobs(@Param("done") SyncStatus done,
+                                           @Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("delete from SyncCheckpoint c where c.jobName = :jobName")
+    int deleteByJobName(@Param("jobName") String jobName);
+
+    interface IncompleteJob {
+        String getJobName();
+
+        SyncJobType getJobType();
+    }
+}
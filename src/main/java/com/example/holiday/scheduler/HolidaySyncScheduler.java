@@ -1,14 +1,17 @@
 package com.example.holiday.scheduler;
 
 
+import com.example.holiday.metrics.HolidayMetrics;
+import com.example.holiday.service.HolidayLazyLoader;
 import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.HolidayYearWindow;
+import com.example.holiday.service.SyncJobEngine.SyncJobReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-import java.time.ZoneId;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -16,33 +19,43 @@ import java.time.ZoneId;
 public class HolidaySyncScheduler {
 
     private final HolidayService holidayService;
+    private final HolidayMetrics metrics;
+    private final HolidayLazyLoader lazyLoader;
+    private final HolidayYearWindow yearWindow;
 
     //테스트용
     //@Scheduled(fixedDelay = 10_000, zone = "Asia/Seoul")
     //과제 제출용(매년 1 월 2 일 01:00 KST에 동기화)
     @Scheduled(cron = "0 0 1 2 1 *", zone = "Asia/Seoul")
-    public void syncCurrentAndPreviousYear() {
-        ZoneId zoneId = ZoneId.of("Asia/Seoul");
-        LocalDate now = LocalDate.now(zoneId);
+    public void syncYearWindow() {
+        // 작년 ~ 창 끝(올해 + ahead) 재동기화: 작년 확정분 반영 + 다가올 연도 미리 적재
+        List<Integer> years = holidayService.annualSyncYears();
 
-        int currentYear = now.getYear();
-        int previousYear = currentYear - 1;
-
-        log.info("[HolidaySyncScheduler] 연간 공휴일 자동 동기화 시작 - prev={}, current={}",
-                previousYear, currentYear);
-
-        try {
-            holidayService.syncAllCountriesForYear(previousYear);
-        } catch (IllegalArgumentException e) {
-
-            log.warn("[HolidaySyncScheduler] previousYear={} 스킵 - {}", previousYear, e.getMessage());
-        }
+        log.info("[HolidaySyncScheduler] 연간 공휴일 자동 동기화 시작 - years={}, window={}~{}",
+                years, yearWindow.startYear(), yearWindow.endYear());
 
+        long started = System.nanoTime();
+        SyncJobReport report = null;
         try {
-            holidayService.syncAllCountriesForYear(currentYear);
-        } catch (IllegalArgumentException e) {
-            log.warn("[HolidaySyncScheduler] currentYear={} 스킵 - {}", currentYear, e.getMessage());
+            // 창 밖으로 나간 연도를 먼저 지워 테이블을 창 크기로 유지
+            long purged = holidayService.purgeExpiredYears();
+            if (purged > 0) {
+                log.info("[HolidaySyncScheduler] 지원 연도 창 밖 데이터 {}건 삭제", purged);
+            }
+
+            if (!years.isEmpty()) {
+                // (연도, 국가) 단위로 커밋되며, 중단되거나 실패한 단위는 체크포인트에 남아 재시작 시 이어서 실행
+                // 지연 적재 모드면 검색으로 적재된 국가만 (외부 API 호출이 실제 수요에 비례하도록)
+                report = lazyLoader.isLazy()
+                        ? holidayService.syncAnnual(years, lazyLoader.loadedCountries().stream().sorted().toList())
+                        : holidayService.syncAnnual(years);
+                log.info("[HolidaySyncScheduler] 동기화 결과 - {}", report);
+            }
+        } catch (RuntimeException e) {
+            metrics.recordSchedulerError(System.nanoTime() - started);
+            throw e;
         }
+        metrics.recordSchedulerRun(System.nanoTime() - started, report);
 
         log.info("[HolidaySyncScheduler] 연간 공휴일 자동 동기화 종료");
     }
@@ -0,0 +1,165 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.service.HolidayDataVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 공휴일 검색 결과 캐시 (holiday.search.result-cache).
+ * - 키는 정규화한 검색 조건 + 페이지 번호·크기·정렬, 크기 상한(max-entries)과 TTL 을 두고 W-TinyLFU 로 밀어냄
+ * - 데이터 변경 이벤트가 커밋되면 그 국가·연도를 포함할 수 있는 항목만 버린다
+ *   (국가 조건이 다르거나, 연도·기간이 변경 연도와 겹치지 않는 항목은 유지)
+ * - 쓰기 트랜잭션 안에서는 캐시를 쓰지 않음 (커밋 전 데이터를 보관하거나, 자신이 쓴 변경을 못 보는 일이 없도록)
+ * - 항목마다 조회 전에 읽은 데이터 버전을 함께 보관해 ETag 로 쓴다
+ *   (다른 국가 변경으로 현재 버전이 올라가도 남아 있는 항목은 자기 버전으로 응답)
+ * - 적중률 등은 cache.* 지표(cache=holiday.search)로 노출
+ */
+@Component
+public class HolidaySearchCache {
+
+    private final HolidayDataVersion dataVersion;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Cache<SearchKey, VersionedPage> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public HolidaySearchCache(MeterRegistry meterRegistry,
+                              HolidayDataVersion dataVersion,
+                              @Value("${holiday.search.result-cache.enabled:true}") boolean enabled,
+                              @Value("${holiday.search.result-cache.max-entries:1000}") int maxEntries,
+                              @Value("${holiday.search.result-cache.ttl:10m}") Duration ttl) {
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "holiday.search");
+    }
+
+    public Optional<VersionedPage> find(HolidaySearchCondition condition, Pageable pageable) {
+        if (!cacheable(pageable)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(SearchKey.of(condition, pageable)));
+    }
+
+    /**
+     * loader 로 조회하고, 조회하는 동안 무효화가 없었으면 결과를 보관.
+     * 반환하는 버전은 조회 전에 읽은 데이터 버전 (보관하지 않는 경우에도 같음).
+     */
+    public VersionedPage load(HolidaySearchCondition condition, Pageable pageable,
+                              Supplier<Page<HolidayResponse>> loader) {
+        long observedGeneration = generation.get();
+        long version = dataVersion.current();
+        VersionedPage page = new VersionedPage(loader.get(), version);
+
+        if (cacheable(pageable)) {
+            SearchKey key = SearchKey.of(condition, pageable);
+            cache.put(key, page);
+            // 조회와 보관 사이에 커밋된 변경이 있었으면 이미 지나간 무효화 대신 직접 버린다
+            if (generation.get() != observedGeneration) {
+                cache.invalidate(key);
+            }
+        }
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.affectedBy(event));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 자주 쓰이는 순서로 최대 limit 개 항목.
+     */
+    public Map<SearchKey, VersionedPage> hottest(int limit) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(Map::of);
+    }
+
+    private boolean cacheable(Pageable pageable) {
+        return enabled && pageable.isPaged() && isCommittedRead();
+    }
+
+    private static boolean isCommittedRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    public record SearchKey(HolidaySearchCondition condition, int page, int size, Sort sort) {
+
+        static SearchKey of(HolidaySearchCondition condition, Pageable pageable) {
+            return new SearchKey(condition.normalized(), pageable.getPageNumber(), pageable.getPageSize(),
+                    pageable.getSort());
+        }
+
+        /**
+         * 이 검색 결과에 event 의 (국가, 연도) 행이 들어 있을 수 있는지 여부.
+         * 타입은 변경 내용으로 알 수 없으므로 보지 않는다.
+         */
+        boolean affectedBy(HolidayDataChangedEvent event) {
+            if (!event.affects(condition.countryCode(), condition.year())) {
+                return false;
+            }
+            if (event.year() == null) {
+                return true;
+            }
+            LocalDate from = condition.from();
+            LocalDate to = condition.to();
+            return (from == null || from.getYear() <= event.year())
+                    && (to == null || to.getYear() >= event.year());
+        }
+    }
+}
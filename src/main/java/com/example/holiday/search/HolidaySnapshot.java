@@ -0,0 +1,164 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * holiday 테이블 전체의 불변 메모리 인덱스.
+ * - rows: (date, id) 순으로 정렬된 응답 DTO
+ * - epochDays: rows 의 날짜 (기간 조건 이진 탐색용)
+ * - 국가 / 연도 / 타입별 posting list: 해당 값을 가진 rows 위치(오름차순)
+ * 검색은 가장 짧은 posting list(없으면 기간 범위)만 훑으면서 나머지 조건을 비교한다.
+ */
+public final class HolidaySnapshot {
+
+    public static final HolidaySnapshot EMPTY = new HolidaySnapshot(List.of());
+
+    private static final int[] NONE = new int[0];
+
+    private final HolidayResponse[] rows;
+    private final long[] epochDays;
+    private final Map<String, int[]> byCountry;
+    private final Map<Integer, int[]> byYear;
+    private final Map<String, int[]> byType;
+
+    /**
+     * @param sortedRows (date, id) 오름차순으로 정렬된 전체 행
+     */
+    public HolidaySnapshot(List<HolidayResponse> sortedRows) {
+        this.rows = sortedRows.toArray(HolidayResponse[]::new);
+        this.epochDays = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            epochDays[i] = rows[i].date().toEpochDay();
+        }
+        this.byCountry = postings(HolidayResponse::countryCode);
+        this.byYear = postings(HolidayResponse::year);
+        this.byType = postings(HolidayResponse::typeCode);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * HolidayRepository.search 와 같은 결과(조건, (date, id) 정렬, 페이징)를 메모리에서 계산.
+     * condition 은 정규화(HolidaySearchCondition.normalized)된 값이어야 한다.
+     */
+    public Page<HolidayResponse> search(HolidaySearchCondition condition, Pageable pageable) {
+        int lo = condition.from() == null ? 0 : lowerBound(condition.from().toEpochDay());
+        int hi = condition.to() == null ? rows.length : lowerBound(condition.to().toEpochDay() + 1);
+
+        // 후보: 가장 짧은 posting list, 조건이 없으면 기간 범위 전체
+        int[] candidates = null;
+        if (condition.countryCode() != null) {
+            candidates = shorter(candidates, byCountry.getOrDefault(condition.countryCode(), NONE));
+        }
+        if (condition.year() != null) {
+            candidates = shorter(candidates, byYear.getOrDefault(condition.year(), NONE));
+        }
+        if (condition.typeCode() != null) {
+            candidates = shorter(candidates, byType.getOrDefault(condition.typeCode(), NONE));
+        }
+
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<HolidayResponse> content = new ArrayList<>(Math.min(limit, 64));
+        long total = 0;
+
+        if (candidates == null) {
+            for (int i = lo; i < hi; i++) {
+                total = collect(i, total, offset, limit, content);
+            }
+        } else {
+            for (int position = firstAtOrAfter(candidates, lo); position < candidates.length; position++) {
+                int i = candidates[position];
+                if (i >= hi) {
+                    break;
+                }
+                if (matches(rows[i], condition)) {
+                    total = collect(i, total, offset, limit, content);
+                }
+            }
+        }
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private long collect(int i, long total, long offset, int limit, List<HolidayResponse> content) {
+        if (total >= offset && content.size() < limit) {
+            content.add(rows[i]);
+        }
+        return total + 1;
+    }
+
+    private boolean matches(HolidayResponse row, HolidaySearchCondition condition) {
+        return (condition.countryCode() == null || condition.countryCode().equals(row.countryCode()))
+                && (condition.year() == null || condition.year() == row.year())
+                && (condition.typeCode() == null || condition.typeCode().equals(row.typeCode()));
+    }
+
+    // epochDays 에서 value 이상이 처음 나오는 위치
+    private int lowerBound(long value) {
+        int lo = 0;
+        int hi = epochDays.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (epochDays[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // posting list 에서 rows 위치가 from 이상인 첫 인덱스
+    private static int firstAtOrAfter(int[] postings, int from) {
+        int lo = 0;
+        int hi = postings.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (postings[mid] < from) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int[] shorter(int[] current, int[] candidate) {
+        return current == null || candidate.length < current.length ? candidate : current;
+    }
+
+    private <K> Map<K, int[]> postings(Function<HolidayResponse, K> key) {
+        Map<K, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < rows.length; i++) {
+            K value = key.apply(rows[i]);
+            if (value != null) {
+                positions.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Map<K, int[]> result = new HashMap<>(positions.size() * 2);
+        positions.forEach((value, list) -> result.put(value, list.stream().mapToInt(Integer::intValue).toArray()));
+        return Map.copyOf(result);
+    }
+
+    @Override
+    public String toString() {
+        return "HolidaySnapshot[rows=" + rows.length
+                + ", countries=" + byCountry.size()
+                + ", years=" + byYear.size()
+                + ", types=" + byType.size() + "]";
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.service.HolidayDataVersion;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 검색 엔진 (holiday.search.in-memory=true 일 때만 사용).
+ * - 애플리케이션 기동(초기 적재) 후 holiday 테이블 전체로 HolidaySnapshot 을 만들어 보관
+ * - 데이터 변경 이벤트가 커밋되면 백그라운드에서 새 스냅샷을 만들어 통째로 교체
+ *   (교체 전까지는 이전 스냅샷으로 응답, 연속된 변경은 한 번의 재구성으로 합침)
+ * - 첫 스냅샷이 준비되기 전에는 search 가 empty 를 반환해 DB 검색으로 넘어감
+ * - 스냅샷마다 만들기 전에 읽은 데이터 버전을 보관해 검색 결과와 함께 돌려준다
+ *   (교체 전의 이전 스냅샷으로 응답하면 현재 버전이 아니라 그 스냅샷의 버전이 ETag 가 됨)
+ */
+@Slf4j
+@Component
+public class HolidaySnapshotEngine {
+
+    private final HolidayRepository holidayRepository;
+    private final HolidayDataVersion dataVersion;
+    private final boolean enabled;
+
+    private final AtomicReference<VersionedSnapshot> current = new AtomicReference<>();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("holiday-snapshot").daemon().factory());
+
+    public HolidaySnapshotEngine(HolidayRepository holidayRepository,
+                                 HolidayDataVersion dataVersion,
+                                 @Value("${holiday.search.in-memory:false}") boolean enabled) {
+        this.holidayRepository = holidayRepository;
+        this.dataVersion = dataVersion;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 메모리 스냅샷으로 검색. 비활성화되었거나 아직 준비되지 않았으면 empty.
+     */
+    public Optional<VersionedPage> search(HolidaySearchCondition condition, Pageable pageable) {
+        VersionedSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new VersionedPage(snapshot.snapshot().search(condition, pageable), snapshot.version()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        // 이미 대기 중인 재구성이 있으면 그 재구성이 이번 변경까지 읽는다
+        if (rebuildRequested.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildRequested.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    /**
+     * holiday 테이블 전체를 다시 읽어 스냅샷 교체.
+     */
+    public void rebuild() {
+        try {
+            long started = System.nanoTime();
+            // 버전을 먼저 읽어 스냅샷 내용보다 새 버전이 붙지 않도록
+            long version = dataVersion.current();
+            HolidaySnapshot snapshot = new HolidaySnapshot(holidayRepository.findAllResponses());
+            current.set(new VersionedSnapshot(snapshot, version));
+            log.info("[HolidaySnapshotEngine] 스냅샷 교체 - {} ({} ms)",
+                    snapshot, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 이전 스냅샷을 유지하고 다음 변경 이벤트 때 다시 시도
+            log.error("[HolidaySnapshotEngine] 스냅샷 재구성 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private record VersionedSnapshot(HolidaySnapshot snapshot, long version) {
+    }
+}
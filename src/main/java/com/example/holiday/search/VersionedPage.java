@@ -0,0 +1,16 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.service.HolidayDataVersion;
+import org.springframework.data.domain.Page;
+
+/**
+ * 검색 결과 + 그 결과를 만든 데이터의 버전 (HolidayDataVersion).
+ * 버전은 결과를 읽기 전에 읽은 값이라 결과 내용보다 새로울 수 없다. 응답 ETag 는 현재 버전이 아니라 이 값으로 만든다.
+ */
+public record VersionedPage(Page<HolidayResponse> page, long version) {
+
+    public String etag() {
+        return HolidayDataVersion.etagOf(version);
+    }
+}
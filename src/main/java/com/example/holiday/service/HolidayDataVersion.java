@@ -0,0 +1,44 @@
+package com.example.holiday.service;
+
+import com.example.holiday.event.HolidayDataChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * holiday 데이터 전체 버전 (단조 증가).
+ * - 기동 시각(ms)에서 시작해 재시작 후에도 이전 프로세스의 버전과 겹치지 않음
+ * - 데이터 변경이 커밋될 때마다 1 증가
+ * 검색 응답의 ETag 로 사용하며, 버전은 조회 전에 읽어 응답 내용보다 오래된 값만 나가도록 한다.
+ * 스냅샷 / 결과 캐시처럼 조회 결과를 보관하는 곳은 만들 때 읽은 버전을 함께 보관해 응답 ETag 로 쓴다 (VersionedPage).
+ */
+@Component
+public class HolidayDataVersion {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 현재 버전의 strong ETag (따옴표 포함).
+     */
+    public String etag() {
+        return etagOf(current());
+    }
+
+    public static String etagOf(long version) {
+        return "\"" + Long.toString(version, 36) + "\"";
+    }
+
+    // 스냅샷 재구성 / 캐시 무효화 리스너보다 먼저 올려, 커밋 이후 다시 읽은 결과에 이전 버전이 붙지 않도록
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.holiday.service;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.repository.HolidayRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 공휴일 전체(또는 검색 조건에 맞는 행) export.
+ * 전진 전용 커서로 한 행씩 읽어 바로 출력 스트림에 쓰므로 행 수와 무관하게 메모리 사용량이 일정하다.
+ * (엔티티가 아닌 DTO 프로젝션이라 영속성 컨텍스트에도 쌓이지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class HolidayExportService {
+
+    private static final String CSV_HEADER =
+            "id,countryCode,countryName,date,year,localName,name,typeCode,fixed,global,launchYear";
+
+    private final HolidayRepository holidayRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 행을 (holiday_date, id) 순으로 out 에 기록. out 은 닫지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public long export(HolidaySearchCondition condition, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        ObjectWriter jsonWriter = objectMapper.writerFor(HolidayResponse.class);
+        long count = 0;
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<HolidayResponse> rows = holidayRepository.streamResponses(condition.normalized())) {
+            Iterator<HolidayResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                HolidayResponse row = iterator.next();
+                switch (format) {
+                    case NDJSON -> writer.write(jsonWriter.writeValueAsString(row));
+                    case CSV -> writeCsv(writer, row);
+                }
+                writer.write('\n');
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsv(Writer writer, HolidayResponse row) throws IOException {
+        writer.write(String.valueOf(row.id()));
+        writer.write(',');
+        writer.write(row.countryCode());
+        writer.write(',');
+        writer.write(csv(row.countryName()));
+        writer.write(',');
+        writer.write(row.date().toString());
+        writer.write(',');
+        writer.write(String.valueOf(row.year()));
+        writer.write(',');
+        writer.write(csv(row.localName()));
+        writer.write(',');
+        writer.write(csv(row.name()));
+        writer.write(',');
+        writer.write(row.typeCode() == null ? "" : csv(row.typeCode()));
+        writer.write(',');
+        writer.write(String.valueOf(row.fixed()));
+        writer.write(',');
+        writer.write(String.valueOf(row.global()));
+        writer.write(',');
+        writer.write(row.launchYear() == null ? "" : String.valueOf(row.launchYear()));
+    }
+
+    // RFC 4180: 쉼표 / 따옴표 / 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.holiday.service;
+
+import com.example.holiday.dto.response.CountryYearHolidays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * (연도, 국가) 단위 공휴일을 가상 스레드로 병렬 조회.
+ * - 동시에 나가는 외부 API 요청 수는 holiday.sync.fetch-concurrency 로 제한
+ * - 조회 결과는 도착 순서대로 호출 스레드에서 콜백으로 전달
+ *   (DB 쓰기는 호출 스레드의 트랜잭션 안에서만 일어나도록 조회와 분리)
+ */
+@Slf4j
+@Component
+public class HolidayFetcher {
+
+    private final NagerClient nagerClient;
+    private final int concurrency;
+
+    public HolidayFetcher(NagerClient nagerClient,
+                          @Value("${holiday.sync.fetch-concurrency:16}") int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("holiday.sync.fetch-concurrency must be >= 1: " + concurrency);
+        }
+        this.nagerClient = nagerClient;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * units 를 조회해 성공하면 onFetched, 실패하면 onFailed 에 넘긴다 (한 단위의 실패가 나머지를 멈추지 않음).
+     * 콜백이 예외를 던지면 남은 조회를 취소하고 그 예외를 그대로 던진다.
+     */
+    public void fetchAll(Collection<SyncUnit> units,
+                         Consumer<CountryYearHolidays> onFetched,
+                         BiConsumer<SyncUnit, RuntimeException> onFailed) {
+        Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Outcome> completion = new ExecutorCompletionService<>(executor);
+
+            for (SyncUnit unit : units) {
+                completion.submit(() -> fetch(permits, unit));
+            }
+
+            try {
+                for (int i = 0; i < units.size(); i++) {
+                    Outcome outcome = completion.take().get();
+                    if (outcome.error() == null) {
+                        onFetched.accept(outcome.fetched());
+                    } else {
+                        onFailed.accept(outcome.unit(), outcome.error());
+                    }
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("공휴일 병렬 조회가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw new IllegalStateException("공휴일 병렬 조회 실패", e.getCause());
+            } catch (RuntimeException e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private Outcome fetch(Semaphore permits, SyncUnit unit) throws InterruptedException {
+        permits.acquire();
+        try {
+            log.debug("[HolidayFetcher] 조회 - year={}, country={}", unit.year(), unit.countryCode());
+            // 배치 lane 으로 호출해 사용자 refresh 의 호출 한도를 잠식하지 않도록
+            return new Outcome(unit, new CountryYearHolidays(unit.year(), unit.countryCode(),
+                    NagerLane.BATCH.call(() -> nagerClient.getPublicHolidays(unit.year(), unit.countryCode()))), null);
+        } catch (RuntimeException e) {
+            return new Outcome(unit, null, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record Outcome(SyncUnit unit, CountryYearHolidays fetched, RuntimeException error) {
+    }
+}
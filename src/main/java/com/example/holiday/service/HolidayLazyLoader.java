@@ -0,0 +1,228 @@
+package com.example.holiday.service;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.repository.HolidayRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 공휴일 지연 적재 (holiday.load.mode=lazy).
+ * - 검색에 국가 코드가 있으면 검색 대상 연도 중 아직 적재하지 않은 (국가, 연도)를 외부 API 에서 가져와 저장한 뒤 검색
+ * - 같은 (국가, 연도) 적재는 동시에 하나만 실행하고 나머지 요청은 그 적재를 기다림 (refresh 워커에서 실행)
+ * - 적재는 응답 캐시의 applied 와 관계없이 받은 응답을 저장 (HolidayService.load)
+ * - 적재가 끝난 (국가, 연도)는 목록에 기억해 다시 호출하지 않음 (기동 시 DB 에 행이 있는 (국가, 연도)로 초기화)
+ * - 국가 코드가 없거나 모르는 국가면 적재하지 않고 있는 데이터로만 응답
+ * - 적재가 실패하거나 wait-timeout 안에 끝나지 않으면 있는 데이터로 응답 (실패는 다음 검색 때 다시 시도)
+ * - 영업일 / 대량 확인 / ICS 처럼 "공휴일 없음" 답을 만들어 보관하는 경로는 requireLoaded 로 적재를 마친 뒤 계산하고,
+ *   적재하지 못하면 빈 데이터로 답하지 않고 IllegalStateException
+ *   (refresh 대기열에 자리가 모자라면 일부만 예약하지 않고 바로 RefreshQueueFullException)
+ */
+@Slf4j
+@Service
+public class HolidayLazyLoader {
+
+    private final RefreshJobService refreshJobService;
+    private final ReferenceDataCache referenceDataCache;
+    private final HolidayRepository holidayRepository;
+    private final HolidayYearWindow yearWindow;
+    private final LoadMode mode;
+    private final Duration waitTimeout;
+
+    private final Set<LoadKey> loaded = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<LoadKey, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public HolidayLazyLoader(RefreshJobService refreshJobService,
+                             ReferenceDataCache referenceDataCache,
+                             HolidayRepository holidayRepository,
+                             HolidayYearWindow yearWindow,
+                             @Value("${holiday.load.mode:eager}") LoadMode mode,
+                             @Value("${holiday.load.wait-timeout:20s}") Duration waitTimeout) {
+        this.refreshJobService = refreshJobService;
+        this.referenceDataCache = referenceDataCache;
+        this.holidayRepository = holidayRepository;
+        this.yearWindow = yearWindow;
+        this.mode = mode;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public boolean isLazy() {
+        return mode == LoadMode.LAZY;
+    }
+
+    /**
+     * DB 에 이미 행이 있는 (국가, 연도)를 적재 완료로 기록. 기동 시 국가 목록 / 스냅샷 적재 후 호출.
+     */
+    public void registerExisting() {
+        holidayRepository.findYearsByCountry().forEach((countryCode, years) ->
+                years.forEach(year -> loaded.add(new LoadKey(year, countryCode))));
+        log.info("[HolidayLazyLoader] 적재된 (국가, 연도) {}건", loaded.size());
+    }
+
+    /**
+     * 검색 조건이 읽을 (국가, 연도) 중 적재되지 않은 것을 적재하고 끝날 때까지(최대 wait-timeout) 기다림.
+     * eager 모드면 아무것도 하지 않음.
+     */
+    public void ensureLoaded(HolidaySearchCondition condition) {
+        if (!isLazy()) {
+            return;
+        }
+        HolidaySearchCondition normalized = condition.normalized();
+        String countryCode = normalized.countryCode();
+        if (countryCode == null || referenceDataCache.findCountry(countryCode).isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<Void>> pending = years(normalized)
+                .mapToObj(year -> new LoadKey(year, countryCode))
+                .filter(key -> !loaded.contains(key))
+                .map(this::load)
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            log.warn("[HolidayLazyLoader] 적재 실패, 있는 데이터로 응답 - country={}, error={}",
+                    countryCode, e.getCause().toString());
+        } catch (TimeoutException e) {
+            log.warn("[HolidayLazyLoader] 적재 대기 시간 초과, 있는 데이터로 응답 - country={}, timeout={}",
+                    countryCode, waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 국가별 연도 중 적재되지 않은 (국가, 연도)를 적재하고 끝날 때까지(최대 wait-timeout) 기다림.
+     * 모르는 국가, 지원 연도 창 밖 연도는 건너뜀 (호출하는 쪽의 검증이 거절). eager 모드면 아무것도 하지 않음.
+     * 새로 예약할 적재(진행 중인 적재에 합류하는 것은 제외)가 refresh 대기열의 남은 자리보다 많으면 아무것도 예약하지 않는다.
+     *
+     * @throws RefreshQueueFullException 대기열에 자리가 모자라거나, 적재가 대기열이 가득 차 거절된 경우
+     * @throws IllegalArgumentException  대기열이 비어 있어도 받을 수 없을 만큼 많은 (국가, 연도)
+     * @throws IllegalStateException     적재가 실패했거나 wait-timeout 안에 끝나지 않은 경우
+     */
+    public void requireLoaded(Map<String, ? extends Collection<Integer>> yearsByCountry) {
+        if (!isLazy()) {
+            return;
+        }
+        List<LoadKey> missing = new ArrayList<>();
+        yearsByCountry.forEach((code, years) -> {
+            String countryCode = code.toUpperCase();
+            if (referenceDataCache.findCountry(countryCode).isEmpty()) {
+                return;
+            }
+            years.stream()
+                    .filter(yearWindow::contains)
+                    .map(year -> new LoadKey(year, countryCode))
+                    .filter(key -> !loaded.contains(key))
+                    .distinct()
+                    .forEach(missing::add);
+        });
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        refreshJobService.ensureCapacity((int) missing.stream().filter(key -> !inFlight.containsKey(key)).count());
+        List<CompletableFuture<Void>> pending = missing.stream().map(this::load).toList();
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RefreshQueueFullException queueFull) {
+                throw queueFull;
+            }
+            throw new IllegalStateException("공휴일 데이터를 적재하지 못했습니다. 잠시 후 다시 시도해 주세요.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("공휴일 데이터 적재가 " + waitTimeout + " 안에 끝나지 않았습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("공휴일 데이터 적재 대기가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 지원 연도 창 안에 적재된 (국가, 연도)가 하나라도 있는 국가 코드 (연간 배치 대상).
+     */
+    public Set<String> loadedCountries() {
+        return loaded.stream()
+                .filter(key -> yearWindow.contains(key.year()))
+                .map(LoadKey::countryCode)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isLoaded(int year, String countryCode) {
+        return loaded.contains(new LoadKey(year, countryCode.toUpperCase()));
+    }
+
+    // 진행 중인 같은 적재가 있으면 그것을, 없으면 새로 적재를 예약해 반환
+    private CompletableFuture<Void> load(LoadKey key) {
+        CompletableFuture<Void> load = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            return existing;
+        }
+        // 확인과 등록 사이에 다른 적재가 끝났으면 다시 호출하지 않음 (완료 기록 → 진행 목록 제거 순서)
+        if (loaded.contains(key)) {
+            inFlight.remove(key, load);
+            load.complete(null);
+            return load;
+        }
+
+        try {
+            refreshJobService.submitLoad(key.year(), key.countryCode()).getCompletion()
+                    .whenComplete((result, error) -> {
+                        if (error == null) {
+                            loaded.add(key);
+                            log.info("[HolidayLazyLoader] 적재 완료 - year={}, country={}, result={}",
+                                    key.year(), key.countryCode(), result);
+                        }
+                        inFlight.remove(key, load);
+                        if (error == null) {
+                            load.complete(null);
+                        } else {
+                            load.completeExceptionally(error);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            // refresh 대기열이 가득 찬 경우 등
+            inFlight.remove(key, load);
+            load.completeExceptionally(e);
+        }
+        return load;
+    }
+
+    // 조건이 읽을 수 있는 지원 연도 창 안의 연도
+    private IntStream years(HolidaySearchCondition condition) {
+        if (condition.year() != null) {
+            int year = condition.year();
+            return yearWindow.contains(year) ? IntStream.of(year) : IntStream.empty();
+        }
+        int startYear = yearWindow.startYear();
+        int endYear = yearWindow.endYear();
+        int from = condition.from() == null ? startYear : Math.max(startYear, condition.from().getYear());
+        int to = condition.to() == null ? endYear : Math.min(endYear, condition.to().getYear());
+        return IntStream.rangeClosed(from, to);
+    }
+
+    private record LoadKey(int year, String countryCode) {
+    }
+}
@@ -3,86 +3,153 @@ package com.example.holiday.service;
 import com.example.holiday.domain.Country;
 import com.example.holiday.domain.Holiday;
 import com.example.holiday.domain.HolidayType;
+import com.example.holiday.domain.SyncJobType;
 
+import com.example.holiday.dto.request.HolidayCursor;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayCursorPageResponse;
 import com.example.holiday.dto.response.HolidayResponse;
 import com.example.holiday.dto.response.NagerCountryResponse;
 import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.metrics.HolidayMetrics;
 import com.example.holiday.repository.CountryRepository;
 import com.example.holiday.repository.HolidayRepository;
-import com.example.holiday.repository.HolidayTypeRepository;
+import com.example.holiday.repository.SyncCheckpointRepository;
+import com.example.holiday.search.HolidaySearchCache;
+import com.example.holiday.search.HolidaySnapshotEngine;
+import com.example.holiday.search.VersionedPage;
+import com.example.holiday.service.SyncJobEngine.SyncJobReport;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HolidayService {
 
-    private static final int START_YEAR = 2020;
-    private static final int END_YEAR = 2025;
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final String INITIAL_LOAD_JOB = "initial-load";
+    private static final String ANNUAL_SYNC_JOB_PREFIX = "annual-";
+    private static final String MANUAL_RESYNC_JOB_PREFIX = "resync-";
 
     private final NagerClient nagerClient;
     private final CountryRepository countryRepository;
     private final HolidayRepository holidayRepository;
-    private final HolidayTypeRepository holidayTypeRepository;
+    private final SyncJobEngine syncJobEngine;
+    private final NagerResponseCache responseCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final HolidaySnapshotEngine snapshotEngine;
+    private final HolidaySearchCache searchCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HolidayMetrics metrics;
+    private final HolidayYearWindow yearWindow;
+
+    // 기존 데이터가 있는 연도/국가 재동기화 방식 (refresh, 연간 배치)
+    @Value("${holiday.sync.mode:reconcile}")
+    private SyncMode syncMode;
+
+    // 창 밖 연도 삭제 시 한 트랜잭션에서 지우는 최대 행 수
+    @Value("${holiday.years.purge-batch-size:1000}")
+    private int purgeBatchSize;
 
     /**
-     * 최초 실행 시 한 번만 전체 국가 + 2020~2025 공휴일 적재.
-     * holiday 테이블에 데이터가 이미 있으면 아무것도 안 함.
+     * 최초 실행 시 한 번만 전체 국가 + 지원 연도 창(holiday.years) 공휴일 적재.
+     * holiday 테이블에 데이터가 이미 있으면 아무것도 안 함 (중단된 초기 적재가 남아 있으면 이어서 실행).
+     * (연도, 국가) 단위로 SyncJobEngine 이 각각 커밋하므로, 도중에 죽어도 재시작 시 남은 단위만 적재.
      */
-    @Transactional
     public void initialLoadIfEmpty() {
+        if (syncJobEngine.hasRunnableUnits(INITIAL_LOAD_JOB)) {
+            log.info("[HolidayService] 중단된 초기 적재 재개");
+            syncJobEngine.resume(INITIAL_LOAD_JOB, this::saveHolidays);
+            return;
+        }
+
         long count = holidayRepository.count();
         if (count > 0) {
             return;
         }
 
-        // 1) 외부 API로 전체 국가 목록 가져오기
-        List<NagerCountryResponse> externalCountries = nagerClient.getAvailableCountries();
+        // 1) 외부 API 국가 목록 저장
+        List<Country> countries = saveAvailableCountries();
 
-        // 2) Country 엔티티로 변환 후 저장
-        List<Country> countries = externalCountries.stream()
-                .sorted(Comparator.comparing(NagerCountryResponse::countryCode))
-                .map(res -> Country.builder()
-                        .code(res.countryCode())
-                        .name(res.name())
-                        .region(null)
-                        .build())
-                .toList();
+        // 2) 지원 연도 창 전체, 모든 국가에 대해 (연도, 국가) 단위 작업으로 적재
+        List<Integer> years = yearWindow.years();
+        List<String> countryCodes = countries.stream().map(Country::getCode).toList();
 
-        countryRepository.saveAll(countries);
+        syncJobEngine.discard(INITIAL_LOAD_JOB);
+        SyncJobReport report = syncJobEngine.run(INITIAL_LOAD_JOB, SyncJobType.INITIAL_LOAD, years, countryCodes,
+                this::saveHolidays);
+        if (report.failed() > 0) {
+            log.warn("[HolidayService] 초기 적재 일부 실패, 다음 실행 때 재시도 - {}", report);
+        }
+    }
 
-        // 3) 2020~2025, 모든 국가에 대해 공휴일 적재
-        for (int year = START_YEAR; year <= END_YEAR; year++) {
-            for (Country country : countries) {
-                syncYearCountry(year, country.getCode(), false);
-            }
+    /**
+     * (지연 적재 모드) 국가 테이블이 비어 있으면 외부 API 국가 목록만 저장.
+     * 공휴일은 검색될 때 (국가, 연도) 단위로 적재된다 (HolidayLazyLoader).
+     */
+    public void loadCountriesIfEmpty() {
+        if (countryRepository.count() > 0) {
+            return;
         }
+        log.info("[HolidayService] 국가 목록 적재 - {}개", saveAvailableCountries().size());
     }
 
     /**
      * 특정 연도/국가의 공휴일 데이터를 외부 API에서 다시 가져와서
-     * 기존 데이터를 삭제 후 재삽입
+     * 기존 데이터에 반영 (holiday.sync.mode 에 따라 삭제 후 재삽입 또는 변경분만 반영)
      */
     @Transactional
-    public void refresh(int year, String countryCode) {
+    public SyncResult refresh(int year, String countryCode) {
         validateYearRange(year);
         String upperCode = countryCode.toUpperCase();
 
         // 1) Country가 DB에 없으면 외부 API 국가 목록에서 찾아서 저장
-        Country country = countryRepository.findById(upperCode)
+        Country country = referenceDataCache.findCountry(upperCode)
+                .orElseGet(() -> saveCountry(upperCode));
+
+        // 2) 실제 동기화 수행
+        SyncResult result = syncYearCountry(year, country.getCode(), true);
+        log.info("[HolidayService] refresh 완료 - year={}, country={}, result={}", year, upperCode, result);
+        return result;
+    }
+
+    /**
+     * (지연 적재) 아직 적재하지 않은 연도/국가의 공휴일을 외부 API 에서 가져와 저장.
+     * refresh 와 같지만 응답 캐시의 applied 를 보지 않고 받은 응답을 항상 반영
+     * (304 라도 캐시가 기억하는 반영 이후 DB 가 비었을 수 있으므로).
+     */
+    @Transactional
+    public SyncResult load(int year, String countryCode) {
+        validateYearRange(year);
+        String upperCode = countryCode.toUpperCase();
+
+        Country country = referenceDataCache.findCountry(upperCode)
                 .orElseGet(() -> saveCountry(upperCode));
 
-        // 2) 실제 동기화 수행 (기존 데이터 삭제 + 새 데이터 삽입)
-        syncYearCountry(year, country.getCode(), true);
+        PublicHolidays fetched = nagerClient.getPublicHolidays(year, country.getCode());
+        SyncResult result = applyHolidays(year, country.getCode(), fetched);
+        log.info("[HolidayService] 지연 적재 완료 - year={}, country={}, result={}", year, upperCode, result);
+        return result;
     }
 
     /**
@@ -92,26 +159,140 @@ public class HolidayService {
     public void deleteYearCountry(int year, String countryCode) {
         validateYearRange(year);
         String upperCode = countryCode.toUpperCase();
-        holidayRepository.deleteByCountryCodeAndYear(upperCode, year);
+        long deleted = holidayRepository.deleteByCountryCodeAndYear(upperCode, year);
+        if (deleted > 0) {
+            publishChanged(upperCode, year);
+        }
+        // 캐시된 응답이 304 여도 다음 refresh 때 다시 적재되도록
+        responseCache.markStale(NagerResponseCache.publicHolidaysUri(year, upperCode));
     }
 
     /**
      * (배치용) 전체 국가에 대해 특정 연도 데이터 동기화.
-     * 매년 1월 2일, 전년도와 금년도에 대해 호출할 수 있음.
      */
-    @Transactional
-    public void syncAllCountriesForYear(int year) {
-        validateYearRange(year);
-        List<Country> countries = countryRepository.findAll();
-        for (Country country : countries) {
-            syncYearCountry(year, country.getCode(), true);
+    public SyncResult syncAllCountriesForYear(int year) {
+        return syncAllCountries(List.of(year)).result();
+    }
+
+    /**
+     * (배치용) 전체 국가 × years 재동기화 작업 실행.
+     * 호출마다 새 작업으로 계획하므로 같은 날 같은 연도 구성으로 다시 호출해도 모든 (연도, 국가)를 다시 동기화.
+     */
+    public SyncJobReport syncAllCountries(List<Integer> years) {
+        return syncCountries(years, allCountryCodes());
+    }
+
+    /**
+     * (배치용) countryCodes × years 재동기화 작업 실행.
+     * 이어서 실행하지 않는 일회성 작업이라 끝나면 실패한 단위가 있어도 체크포인트를 지운다.
+     */
+    public SyncJobReport syncCountries(List<Integer> years, List<String> countryCodes) {
+        years.forEach(this::validateYearRange);
+
+        String jobName = MANUAL_RESYNC_JOB_PREFIX + UUID.randomUUID();
+        try {
+            return syncJobEngine.run(jobName, SyncJobType.RESYNC, years, countryCodes, this::resyncHolidays);
+        } finally {
+            syncJobEngine.discard(jobName);
+        }
+    }
+
+    /**
+     * 연간 배치가 재동기화할 연도: 작년 ~ 창 끝(기준 연도 + ahead) 중 지원 연도 창 안의 연도.
+     */
+    public List<Integer> annualSyncYears() {
+        return IntStream.rangeClosed(yearWindow.anchorYear() - 1, yearWindow.endYear())
+                .filter(yearWindow::contains)
+                .boxed()
+                .toList();
+    }
+
+    /**
+     * (연간 배치) 전체 국가 × years 재동기화.
+     */
+    public SyncJobReport syncAnnual(List<Integer> years) {
+        return syncAnnual(years, allCountryCodes());
+    }
+
+    /**
+     * (연간 배치) countryCodes × years 재동기화 (지연 적재 모드에서는 적재된 국가만).
+     * 작업 이름이 연도 구성으로 정해지므로(annual-첫 연도-끝 연도) 재시작으로 중단되면
+     * 기동 시 남은 단위부터 이어서 실행한다 (resumeIncompleteResyncJobs).
+     * - 이전 실행이 끝난(실행할 단위가 없는) 작업이면 기록을 지우고 새로 계획 (같은 날 다시 실행해도 전체 단위 동기화)
+     * - 실패한 단위 없이 끝나면 체크포인트 삭제, 실패가 남으면 다음 실행 / 재시작 때 재시도
+     */
+    public SyncJobReport syncAnnual(List<Integer> years, List<String> countryCodes) {
+        years.forEach(this::validateYearRange);
+
+        String jobName = annualJobName(years);
+        if (!syncJobEngine.hasRunnableUnits(jobName)) {
+            syncJobEngine.discard(jobName);
+        }
+        return discardIfCompleted(
+                syncJobEngine.run(jobName, SyncJobType.RESYNC, years, countryCodes, this::resyncHolidays));
+    }
+
+    /**
+     * 재시작 등으로 끝나지 않은 재동기화 작업 정리.
+     * - 지금 연간 배치의 작업(annualSyncYears)이면 남은 단위(PENDING, 재시도 가능한 FAILED)부터 이어서 실행
+     * - 수동 재동기화나 연도 창이 바뀐 이전 연간 배치 작업은 이어서 실행하지 않고 기록만 삭제
+     * (초기 적재는 initialLoadIfEmpty 가 이어서 실행)
+     *
+     * @return 이어서 실행한 작업의 결과
+     */
+    public List<SyncJobReport> resumeIncompleteResyncJobs() {
+        String annualJob = annualJobName(annualSyncYears());
+        List<SyncJobReport> reports = new ArrayList<>();
+        for (SyncCheckpointRepository.IncompleteJob job : syncJobEngine.incompleteJobs()) {
+            if (job.getJobType() != SyncJobType.RESYNC) {
+                continue;
+            }
+            if (job.getJobName().equals(annualJob)) {
+                log.info("[HolidayService] 중단된 연간 배치 재개 - job={}", annualJob);
+                reports.add(discardIfCompleted(syncJobEngine.resume(annualJob, this::resyncHolidays)));
+            } else {
+                log.info("[HolidayService] 이어서 실행하지 않는 재동기화 작업 기록 삭제 - job={}", job.getJobName());
+                syncJobEngine.discard(job.getJobName());
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * (배치용) 지원 연도 창보다 이전 연도의 공휴일을 삭제해 테이블을 창 크기로 유지.
+     * 연도마다 holiday.years.purge-batch-size 건씩 나눠 커밋하고, 한 연도를 다 지우면 변경 이벤트 발행.
+     *
+     * @return 삭제한 행 수
+     */
+    public long purgeExpiredYears() {
+        int startYear = yearWindow.startYear();
+        List<Integer> expiredYears = holidayRepository.countByYear().keySet().stream()
+                .filter(year -> year < startYear)
+                .toList();
+
+        long purged = 0;
+        for (int year : expiredYears) {
+            long yearPurged = 0;
+            long deleted;
+            do {
+                deleted = holidayRepository.deleteByYear(year, purgeBatchSize);
+                yearPurged += deleted;
+            } while (deleted > 0);
+
+            publishChanged(null, year);
+            log.info("[HolidayService] 지원 연도 창 밖 데이터 삭제 - year={}, rows={}", year, yearPurged);
+            purged += yearPurged;
         }
+        return purged;
     }
 
     /**
      * 검색 기능: year, countryCode, from, to, typeCode를 기반으로 페이징 조회.
+     * 메모리 스냅샷(holiday.search.in-memory)이 준비되어 있으면 DB 를 거치지 않고 응답.
+     * 아니면 검색 결과 캐시(HolidaySearchCache)를 먼저 보고, 없을 때만 DB 를 조회해 보관.
+     * DB 검색은 엔티티 없이 응답 DTO 프로젝션으로 조회하며, 트랜잭션은 그 경로(HolidayRepositoryImpl.searchResponses)에서만 시작.
+     * 검색 시간은 조건 조합·응답 경로별로 holiday.search 지표에 기록.
      */
-    @Transactional(readOnly = true)
     public Page<HolidayResponse> search(
             Integer year,
             String countryCode,
@@ -119,72 +300,291 @@ public class HolidayService {
             LocalDate to,
             String typeCode,
             Pageable pageable
+    ) {
+        return searchVersioned(year, countryCode, from, to, typeCode, pageable).page();
+    }
+
+    /**
+     * search 와 같고, 응답한 스냅샷 / 캐시 항목 / DB 조회의 데이터 버전을 함께 반환 (검색 API 의 ETag).
+     */
+    public VersionedPage searchVersioned(
+            Integer year,
+            String countryCode,
+            LocalDate from,
+            LocalDate to,
+            String typeCode,
+            Pageable pageable
     ) {
         String normalizedCountry = (countryCode == null ? null : countryCode.toUpperCase());
         String normalizedType = (typeCode == null ? null : typeCode);
 
-        Page<Holiday> page = holidayRepository.search(
-                year,
-                normalizedCountry,
-                from,
-                to,
-                normalizedType,
-                pageable
-        );
+        long started = System.nanoTime();
+        HolidaySearchCondition condition =
+                new HolidaySearchCondition(year, normalizedCountry, from, to, normalizedType).normalized();
+        Optional<VersionedPage> fromSnapshot = snapshotEngine.search(condition, pageable);
+        if (fromSnapshot.isPresent()) {
+            metrics.recordSearch(condition, "memory", System.nanoTime() - started);
+            return fromSnapshot.get();
+        }
+
+        Optional<VersionedPage> cached = searchCache.find(condition, pageable);
+        if (cached.isPresent()) {
+            metrics.recordSearch(condition, "cache", System.nanoTime() - started);
+            return cached.get();
+        }
 
-        return page.map(this::toResponse);
+        VersionedPage result = searchCache.load(condition, pageable,
+                () -> holidayRepository.searchResponses(condition, pageable));
+        metrics.recordSearch(condition, "db", System.nanoTime() - started);
+        return result;
+    }
+
+    /**
+     * 커서(keyset) 페이징 검색: OFFSET 없이 (holiday_date, id) 위치에서 바로 이어서 조회.
+     * 깊은 페이지도 페이지당 비용이 일정하며, 전체 건수는 includeTotal=true 일 때만 조회.
+     */
+    @Transactional(readOnly = true)
+    public HolidayCursorPageResponse searchByCursor(
+            HolidaySearchCondition condition,
+            String after,
+            int size,
+            boolean includeTotal
+    ) {
+        HolidaySearchCondition normalized = condition.normalized();
+        HolidayCursor cursor = (after == null || after.isBlank()) ? null : HolidayCursor.decode(after);
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<Holiday> rows = holidayRepository.searchAfter(normalized, cursor, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Holiday> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Holiday last = content.getLast();
+            nextCursor = new HolidayCursor(last.getDate(), last.getId()).encode();
+        }
+
+        Long total = includeTotal ? holidayRepository.count(normalized) : null;
+
+        return new HolidayCursorPageResponse(
+                content.stream().map(this::toResponse).toList(),
+                content.size(),
+                hasNext,
+                nextCursor,
+                total
+        );
     }
 
     //  내부 헬퍼 메서드들
 
+    private List<String> allCountryCodes() {
+        return countryRepository.findAll().stream()
+                .map(Country::getCode)
+                .toList();
+    }
+
+    private static String annualJobName(List<Integer> years) {
+        return ANNUAL_SYNC_JOB_PREFIX + years.getFirst() + "-" + years.getLast();
+    }
+
+    // 실패한 단위 없이 끝난 작업은 체크포인트를 지워 sync_checkpoint 가 끝난 작업으로 쌓이지 않게
+    private SyncJobReport discardIfCompleted(SyncJobReport report) {
+        if (report.failed() == 0) {
+            syncJobEngine.discard(report.jobName());
+        }
+        return report;
+    }
+
+    /**
+     * 외부 API 전체 국가 목록을 Country 엔티티로 변환해 저장 (이전 실행에서 저장된 국가는 제외).
+     * 코드 순으로 정렬한 전체 목록 반환.
+     */
+    private List<Country> saveAvailableCountries() {
+        List<NagerCountryResponse> externalCountries = nagerClient.getAvailableCountries();
+
+        Set<String> existingCodes = countryRepository.findAll().stream()
+                .map(Country::getCode)
+                .collect(Collectors.toSet());
+        List<Country> countries = externalCountries.stream()
+                .sorted(Comparator.comparing(NagerCountryResponse::countryCode))
+                .map(res -> Country.builder()
+                        .code(res.countryCode())
+                        .name(res.name())
+                        .region(null)
+                        .build())
+                .toList();
+
+        referenceDataCache.saveCountries(countries.stream()
+                .filter(country -> !existingCodes.contains(country.getCode()))
+                .toList());
+        return countries;
+    }
+
     /**
-     * - deleteBeforeInsert == true 이면 연도/국가 기존 데이터 먼저 삭제
      * - 외부 API에서 공휴일 목록 조회
-     * - Holiday 엔티티로 변환 후 일괄 저장
+     * - deleteBeforeInsert == true 이면 기존 데이터에 반영 (resyncHolidays)
+     * - false 이면 비어 있는 연도/국가로 보고 일괄 저장만 수행
+     */
+    private SyncResult syncYearCountry(int year, String countryCode, boolean deleteBeforeInsert) {
+        validateYearRange(year);
+
+        PublicHolidays fetched = nagerClient.getPublicHolidays(year, countryCode);
+
+        return deleteBeforeInsert
+                ? resyncHolidays(year, countryCode, fetched)
+                : saveHolidays(year, countryCode, fetched);
+    }
+
+    /**
+     * 기존 데이터가 있는 연도/국가에 외부 응답 반영.
+     * - 받은 본문(캐시 항목 version)이 이미 반영된 본문이면(304) DB 쓰기를 생략
+     * - 아니면 applyHolidays
      */
-    private void syncYearCountry(int year, String countryCode, boolean deleteBeforeInsert) {
+    private SyncResult resyncHolidays(int year, String countryCode, PublicHolidays fetched) {
         validateYearRange(year);
 
-        if (deleteBeforeInsert) {
-            holidayRepository.deleteByCountryCodeAndYear(countryCode, year);
+        String uri = NagerResponseCache.publicHolidaysUri(year, countryCode);
+        if (fetched.cacheVersion() != null && responseCache.find(uri)
+                .filter(entry -> entry.applied() && entry.version() == fetched.cacheVersion())
+                .isPresent()) {
+            log.debug("[HolidayService] 변경 없음(304), 동기화 생략 - year={}, country={}", year, countryCode);
+            return SyncResult.NOT_MODIFIED;
         }
+        return applyHolidays(year, countryCode, fetched);
+    }
 
-        List<NagerHolidayResponse> externalHolidays =
-                nagerClient.getPublicHolidays(year, countryCode);
+    /**
+     * 외부 응답을 applied 확인 없이 반영.
+     * - REPLACE: 전체 삭제 후 재삽입 / RECONCILE: 변경분만 INSERT/UPDATE/DELETE
+     */
+    private SyncResult applyHolidays(int year, String countryCode, PublicHolidays fetched) {
+        SyncResult result = switch (syncMode) {
+            case REPLACE -> {
+                long deleted = holidayRepository.deleteByCountryCodeAndYear(countryCode, year);
+                SyncResult inserted = saveHolidays(year, countryCode, fetched);
+                yield new SyncResult(inserted.inserted(), 0, (int) deleted, 0, 0);
+            }
+            case RECONCILE -> reconcileHolidays(year, countryCode, fetched);
+        };
 
-        Country country = countryRepository.findById(countryCode)
-                .orElseThrow(() -> new IllegalStateException("Country must exist before syncing holidays"));
+        if (result.changed()) {
+            publishChanged(countryCode, year);
+        }
+        return result;
+    }
 
-        // (1) date + localName 기준으로 중복 제거
-        record HolidayKey(LocalDate date, String localName) {}
+    /**
+     * 기존 행과 외부 응답을 (날짜, 현지어 이름) 키로 비교해 필요한 변경만 반영.
+     * 유니크 키(uk_holiday_country_date_localname)가 같으면 같은 공휴일로 보고 id / createdAt 유지.
+     */
+    private SyncResult reconcileHolidays(int year, String countryCode, PublicHolidays fetched) {
+        markApplied(year, countryCode, fetched);
+
+        Map<HolidayKey, NagerHolidayResponse> incoming = dedupe(fetched.holidays());
+        List<Holiday> toDelete = new ArrayList<>();
+        int updated = 0;
+        int unchanged = 0;
+
+        for (Holiday existing : holidayRepository.findByCountryCodeAndYear(countryCode, year)) {
+            NagerHolidayResponse res = incoming.remove(new HolidayKey(existing.getDate(), existing.getLocalName()));
+            if (res == null) {
+                toDelete.add(existing);
+            } else if (existing.updateFrom(res.name(), findOrCreateHolidayType(firstType(res)),
+                    res.fixed(), res.global(), res.launchYear())) {
+                updated++;
+            } else {
+                unchanged++;
+            }
+        }
 
-        List<NagerHolidayResponse> deduped = externalHolidays.stream()
+        holidayRepository.deleteAll(toDelete);
+
+        if (!incoming.isEmpty()) {
+            Country country = findCountry(countryCode);
+            holidayRepository.saveAll(incoming.values().stream()
+                    .map(res -> toEntity(country, res))
+                    .toList());
+        }
+
+        return new SyncResult(incoming.size(), updated, toDelete.size(), unchanged, 0);
+    }
+
+    /**
+     * 외부 API 응답을 중복 제거 후 Holiday 엔티티로 변환해 일괄 저장.
+     * 저장한 응답은 커밋 이후 캐시에 반영 완료(applied)로 기록.
+     */
+    private SyncResult saveHolidays(int year, String countryCode, PublicHolidays fetched) {
+        validateYearRange(year);
+        markApplied(year, countryCode, fetched);
+
+        List<NagerHolidayResponse> externalHolidays = fetched.holidays();
+        if (externalHolidays == null || externalHolidays.isEmpty()) {
+            return SyncResult.EMPTY;
+        }
+
+        List<Holiday> holidays = toEntities(findCountry(countryCode), externalHolidays);
+
+        holidayRepository.saveAll(holidays);
+        publishChanged(countryCode, year);
+        return SyncResult.inserted(holidays.size());
+    }
+
+    /**
+     * 외부 응답을 중복 제거한 뒤 Holiday 엔티티로 변환 (저장 전 단계, JMH 벤치마크에서도 사용).
+     */
+    List<Holiday> toEntities(Country country, List<NagerHolidayResponse> externalHolidays) {
+        return dedupe(externalHolidays).values().stream()
+                .map(res -> toEntity(country, res))
+                .toList();
+    }
+
+    /**
+     * date + localName 기준으로 중복 제거 (같은 key가 여러 번 들어오면 첫 번째 것만 유지).
+     */
+    private Map<HolidayKey, NagerHolidayResponse> dedupe(List<NagerHolidayResponse> externalHolidays) {
+        if (externalHolidays == null) {
+            return new LinkedHashMap<>();
+        }
+        return externalHolidays.stream()
                 .collect(Collectors.toMap(
                         res -> new HolidayKey(res.date(), res.localName()),
                         res -> res,
-                        // 같은 key가 여러 번 들어오면 첫 번째 것만 유지
                         (first, duplicate) -> first,
                         LinkedHashMap::new
-                ))
-                .values()
-                .stream()
-                .toList();
+                ));
+    }
 
-        // (2) 중복 제거된 리스트로 Holiday 엔티티 생성
-        List<Holiday> holidays = deduped.stream()
-                .map(res -> Holiday.builder()
-                        .country(country)
-                        .date(res.date())
-                        .localName(res.localName())
-                        .name(res.name())
-                        .type(findOrCreateHolidayType(firstType(res)))
-                        .fixed(res.fixed())
-                        .global(res.global())
-                        .launchYear(res.launchYear())
-                        .build())
-                .toList();
+    private Holiday toEntity(Country country, NagerHolidayResponse res) {
+        return Holiday.builder()
+                .country(country)
+                .date(res.date())
+                .localName(res.localName())
+                .name(res.name())
+                .type(findOrCreateHolidayType(firstType(res)))
+                .fixed(res.fixed())
+                .global(res.global())
+                .launchYear(res.launchYear())
+                .build();
+    }
 
-        holidayRepository.saveAll(holidays);
+    private Country findCountry(String countryCode) {
+        return referenceDataCache.findCountry(countryCode)
+                .orElseThrow(() -> new IllegalStateException("Country must exist before syncing holidays"));
+    }
+
+    // 조회한 본문의 캐시 항목 version 으로 기록 (그 사이 새 본문이 저장되었으면 캐시가 무시)
+    private void markApplied(int year, String countryCode, PublicHolidays fetched) {
+        if (fetched.cacheVersion() != null) {
+            responseCache.markApplied(NagerResponseCache.publicHolidaysUri(year, countryCode), fetched.cacheVersion());
+        }
+    }
+
+    /**
+     * 검색 인덱스·캐시 등에 (국가, 연도) 데이터 변경 알림 (countryCode 가 null 이면 그 연도 전체). 구독자는 커밋 이후에 반영한다.
+     */
+    private void publishChanged(String countryCode, int year) {
+        eventPublisher.publishEvent(new HolidayDataChangedEvent(countryCode, year));
     }
 
     /**
@@ -203,19 +603,13 @@ public class HolidayService {
         }
 
         NagerCountryResponse res = match.get();
-        Country country = Country.builder()
-                .code(res.countryCode())
-                .name(res.name())
-                .region(null)
-                .build();
-
-        return countryRepository.save(country);
+        return referenceDataCache.getOrCreateCountry(res.countryCode(), res.name());
     }
 
     /**
      * HolidayType 관리:
      * - types 리스트에서 첫 번째 값만 사용
-     * - DB에 없으면 새로 만들어 저장
+     * - 참조 데이터 캐시에서 찾고, DB에 없으면 새로 만들어 저장
      * - 없거나 빈 리스트면 null 반환
      */
     private HolidayType findOrCreateHolidayType(String typeCode) {
@@ -223,12 +617,7 @@ public class HolidayService {
             return null;
         }
 
-        return holidayTypeRepository.findById(typeCode)
-                .orElseGet(() -> holidayTypeRepository.save(
-                        HolidayType.builder()
-                                .code(typeCode)
-                                .build()
-                ));
+        return referenceDataCache.getOrCreateHolidayType(typeCode);
     }
 
     private String firstType(NagerHolidayResponse res) {
@@ -239,12 +628,10 @@ public class HolidayService {
     }
 
     /**
-     * 지원 연도 범위 (2020~2025) 체크.
+     * 지원 연도 창(holiday.years) 체크.
      */
-    private void validateYearRange(int year) {
-        if (year < START_YEAR || year > END_YEAR) {
-            throw new IllegalArgumentException("지원 연도 범위는 2020 ~ 2025 입니다. 요청 연도: " + year);
-        }
+    void validateYearRange(int year) {
+        yearWindow.validate(year);
     }
 
     /**
@@ -253,4 +640,7 @@ public class HolidayService {
     private HolidayResponse toResponse(Holiday holiday) {
         return HolidayResponse.from(holiday);
     }
+
+    // holiday 테이블 유니크 키 중 국가를 제외한 부분 (국가/연도 단위로 비교하므로)
+    private record HolidayKey(LocalDate date, String localName) {}
 }
@@ -0,0 +1,70 @@
+package com.example.holiday.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 지원 연도 창 (holiday.years.*): 기준 연도 - back ~ 기준 연도 + ahead.
+ * 기준 연도(anchor)를 비우면 올해(Asia/Seoul)를 쓰므로, 해가 바뀌면 재시작 없이 창도 함께 이동한다.
+ * 창 밖으로 나간 연도는 연간 배치가 지운다 (HolidayService.purgeExpiredYears).
+ */
+@Component
+public class HolidayYearWindow {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final Integer anchor;
+    private final int back;
+    private final int ahead;
+
+    public HolidayYearWindow(@Value("${holiday.years.anchor:}") Integer anchor,
+                             @Value("${holiday.years.back:5}") int back,
+                             @Value("${holiday.years.ahead:2}") int ahead) {
+        if (back < 0 || ahead < 0) {
+            throw new IllegalArgumentException("holiday.years.back / ahead 는 0 이상이어야 합니다.");
+        }
+        this.anchor = anchor;
+        this.back = back;
+        this.ahead = ahead;
+    }
+
+    public int startYear() {
+        return anchorYear() - back;
+    }
+
+    public int endYear() {
+        return anchorYear() + ahead;
+    }
+
+    public boolean contains(int year) {
+        int anchorYear = anchorYear();
+        return year >= anchorYear - back && year <= anchorYear + ahead;
+    }
+
+    /**
+     * 창 안의 연도 목록 (오름차순).
+     */
+    public List<Integer> years() {
+        int anchorYear = anchorYear();
+        return IntStream.rangeClosed(anchorYear - back, anchorYear + ahead).boxed().toList();
+    }
+
+    public void validate(int year) {
+        if (!contains(year)) {
+            throw new IllegalArgumentException("지원 연도 범위는 " + startYear() + " ~ " + endYear()
+                    + " 입니다. 요청 연도: " + year);
+        }
+    }
+
+    /**
+     * 기준 연도 (holiday.years.anchor, 비어 있으면 올해).
+     */
+    public int anchorYear() {
+        return anchor != null ? anchor : LocalDate.now(ZONE).getYear();
+    }
+}
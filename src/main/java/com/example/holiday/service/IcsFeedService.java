@@ -0,0 +1,227 @@
+package com.example.holiday.service;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.HolidayRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 국가(들) / 연도별 iCalendar(.ics) 피드.
+ * - 렌더링한 바이트와 ETag(내용 해시)를 LRU 캐시에 보관해, 반복 요청은 조회·렌더링 없이 바이트 배열만 응답
+ * - 데이터 변경 이벤트가 커밋되면 해당 국가·연도를 포함하는 피드만 버린다
+ * - 쓰기 트랜잭션 안에서 만든 피드는 커밋 전 데이터일 수 있으므로 보관하지 않음
+ * - 지연 적재 모드면 렌더링 전에 피드의 (국가, 연도)를 적재 (HolidayLazyLoader.requireLoaded, 연도가 없으면 지원 연도 전체)
+ */
+@Slf4j
+@Service
+public class IcsFeedService {
+
+    private static final DateTimeFormatter ICS_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final HolidayRepository holidayRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final HolidayYearWindow yearWindow;
+    private final HolidayLazyLoader lazyLoader;
+    private final int maxEntries;
+
+    private final Map<FeedKey, IcsFeed> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public IcsFeedService(HolidayRepository holidayRepository,
+                          ReferenceDataCache referenceDataCache,
+                          HolidayYearWindow yearWindow,
+                          HolidayLazyLoader lazyLoader,
+                          @Value("${holiday.ics.cache-max-entries:1000}") int maxEntries) {
+        this.holidayRepository = holidayRepository;
+        this.referenceDataCache = referenceDataCache;
+        this.yearWindow = yearWindow;
+        this.lazyLoader = lazyLoader;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FeedKey, IcsFeed> eldest) {
+                return size() > IcsFeedService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * countryCodes 의 공휴일 피드 (year 가 null 이면 전체 연도).
+     */
+    public IcsFeed feed(List<String> countryCodes, Integer year) {
+        FeedKey key = FeedKey.of(countryCodes, year);
+        synchronized (cache) {
+            IcsFeed cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        validate(key);
+        List<Integer> years = key.year() == null ? yearWindow.years() : List.of(key.year());
+        lazyLoader.requireLoaded(key.countryCodes().stream()
+                .collect(Collectors.toMap(Function.identity(), countryCode -> years)));
+
+        long observedGeneration = generation.get();
+        IcsFeed feed = render(key);
+
+        if (isCommittedRead()) {
+            synchronized (cache) {
+                if (generation.get() == observedGeneration) {
+                    cache.put(key, feed);
+                }
+            }
+        }
+        return feed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHolidayDataChanged(HolidayDataChangedEvent event) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            cache.keySet().removeIf(key -> key.countryCodes().stream()
+                    .anyMatch(code -> event.affects(code, key.year())));
+        }
+    }
+
+    private IcsFeed render(FeedKey key) {
+        List<HolidayResponse> holidays = new ArrayList<>();
+        for (String countryCode : key.countryCodes()) {
+            holidays.addAll(holidayRepository.findResponses(
+                    new HolidaySearchCondition(key.year(), countryCode, null, null, null)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512 + holidays.size() * 256);
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:-//Holiday Keeper//Holidays//EN");
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "METHOD:PUBLISH");
+        line(out, "X-WR-CALNAME:" + text("Holidays " + String.join(",", key.countryCodes())
+                + (key.year() == null ? "" : " " + key.year())));
+
+        for (HolidayResponse holiday : holidays) {
+            String date = holiday.date().format(ICS_DATE);
+            line(out, "BEGIN:VEVENT");
+            // (국가, 날짜, 현지어 이름)은 유니크 키이므로 재동기화로 id 가 바뀌어도 UID 는 유지
+            line(out, "UID:" + holiday.countryCode() + "-" + date + "-"
+                    + Integer.toHexString(holiday.localName().hashCode()) + "@holiday-keeper");
+            // 내용 해시 ETag 가 데이터가 같으면 같게 나오도록 생성 시각 대신 공휴일 날짜 사용
+            line(out, "DTSTAMP:" + date + "T000000Z");
+            line(out, "DTSTART;VALUE=DATE:" + date);
+            line(out, "DTEND;VALUE=DATE:" + holiday.date().plusDays(1).format(ICS_DATE));
+            line(out, "SUMMARY:" + text(summary(holiday, key.countryCodes().size() > 1)));
+            if (holiday.typeCode() != null) {
+                line(out, "CATEGORIES:" + text(holiday.typeCode()));
+            }
+            line(out, "TRANSP:TRANSPARENT");
+            line(out, "END:VEVENT");
+        }
+        line(out, "END:VCALENDAR");
+
+        byte[] body = out.toByteArray();
+        return new IcsFeed(body, etag(body));
+    }
+
+    private static String summary(HolidayResponse holiday, boolean withCountry) {
+        String name = holiday.localName().equals(holiday.name())
+                ? holiday.name()
+                : holiday.localName() + " (" + holiday.name() + ")";
+        return withCountry ? "[" + holiday.countryCode() + "] " + name : name;
+    }
+
+    // RFC 5545 3.3.11 TEXT 이스케이프
+    private static String text(String value) {
+        return value.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // RFC 5545 3.1: 한 줄 75 octet 이하로 접고 CRLF 로 끝냄 (UTF-8 문자 중간에서 자르지 않음)
+    private static void line(ByteArrayOutputStream out, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        int start = 0;
+        int limit = MAX_LINE_OCTETS;
+        while (bytes.length - start > limit) {
+            int end = start + limit;
+            while ((bytes[end] & 0xC0) == 0x80) {   // UTF-8 연속 바이트면 앞으로
+                end--;
+            }
+            out.write(bytes, start, end - start);
+            out.writeBytes(new byte[]{'\r', '\n', ' '});
+            start = end;
+            limit = MAX_LINE_OCTETS - 1;   // 이어지는 줄은 앞의 공백 1 octet 포함
+        }
+        out.write(bytes, start, bytes.length - start);
+        out.writeBytes(new byte[]{'\r', '\n'});
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void validate(FeedKey key) {
+        if (key.countryCodes().isEmpty()) {
+            throw new IllegalArgumentException("countryCode 를 하나 이상 지정해야 합니다.");
+        }
+        if (key.year() != null) {
+            yearWindow.validate(key.year());
+        }
+        for (String countryCode : key.countryCodes()) {
+            if (referenceDataCache.findCountry(countryCode).isEmpty()) {
+                throw new IllegalArgumentException("Unknown country code: " + countryCode);
+            }
+        }
+    }
+
+    // 트랜잭션 밖이거나 읽기 전용 트랜잭션이면 커밋된 데이터만 읽었다고 본다
+    private static boolean isCommittedRead() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * 렌더링된 피드와 strong ETag (따옴표 포함).
+     */
+    public record IcsFeed(byte[] body, String etag) {
+    }
+
+    // 국가 코드는 대문자·중복 제거·정렬해 요청 순서와 무관하게 같은 키가 되도록
+    private record FeedKey(List<String> countryCodes, Integer year) {
+        static FeedKey of(List<String> countryCodes, Integer year) {
+            return new FeedKey(countryCodes.stream()
+                    .filter(code -> code != null && !code.isBlank())
+                    .map(code -> code.trim().toUpperCase())
+                    .distinct()
+                    .sorted()
+                    .toList(), year);
+        }
+    }
+}
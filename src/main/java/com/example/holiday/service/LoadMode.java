@@ -0,0 +1,13 @@
+package com.example.holiday.service;
+
+/**
+ * 기동 시 공휴일 데이터 적재 방식 (holiday.load.mode).
+ */
+public enum LoadMode {
+
+    /** 기동 시 전체 국가 × 지원 연도 공휴일을 모두 적재 */
+    EAGER,
+
+    /** 기동 시 국가 목록만 적재하고, (국가, 연도) 공휴일은 처음 검색될 때 적재 (HolidayLazyLoader) */
+    LAZY
+}
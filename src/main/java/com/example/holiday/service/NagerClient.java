@@ -1,34 +1,160 @@
 package com.example.holiday.service;
 
+import com.example.holiday.config.NagerProperties;
 import com.example.holiday.dto.response.NagerCountryResponse;
 import com.example.holiday.dto.response.NagerHolidayResponse;
-import org.springframework.core.ParameterizedTypeReference;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * Nager API 클라이언트.
+ * - 요청마다 lane(NagerLane)별 rate limit 토큰을 받은 뒤 전송하고, 1회 시도는 holiday.nager.request-timeout 으로 제한
+ * - 5xx / 429 / 타임아웃 / 연결 오류는 지터가 섞인 지수 백오프로 holiday.nager.retry.max-attempts 까지 재시도
+ * - 블로킹 호출은 lane 별 bulkhead 안에서 실행
+ */
+@Slf4j
 @Service
 public class NagerClient {
+
+    private static final TypeReference<List<NagerCountryResponse>> COUNTRY_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<NagerHolidayResponse>> HOLIDAY_LIST = new TypeReference<>() {};
+
+    // 템플릿으로 요청해야 지표(http.client.requests)의 uri 태그가 국가·연도가 아닌 엔드포인트 단위가 된다
+    private static final String AVAILABLE_COUNTRIES = "/AvailableCountries";
+    private static final String PUBLIC_HOLIDAYS = "/PublicHolidays/{year}/{countryCode}";
+
     private final WebClient webClient;
+    private final NagerResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final NagerThrottle throttle;
+    private final NagerProperties properties;
 
-    public NagerClient(WebClient webClient) {
+    public NagerClient(WebClient webClient,
+                       NagerResponseCache responseCache,
+                       ObjectMapper objectMapper,
+                       NagerThrottle throttle,
+                       NagerProperties properties) {
         this.webClient = webClient;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.throttle = throttle;
+        this.properties = properties;
     }
 
     public List<NagerCountryResponse> getAvailableCountries() {
-        return webClient.get()
-                .uri("/AvailableCountries")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<NagerCountryResponse>>() {})
-                .block();
+        NagerLane lane = NagerLane.current();
+        return throttle.withBulkhead(lane, () -> resilientGet(COUNTRY_LIST, lane, AVAILABLE_COUNTRIES)
+                .map(CachedBody::value)
+                .defaultIfEmpty(List.of())
+                .block());
     }
 
-    public List<NagerHolidayResponse> getPublicHolidays(int year, String countryCode) {
+    /**
+     * 특정 연도/국가 공휴일 조회. 응답 본문과 함께 그 본문을 담은 응답 캐시 항목의 version 을 돌려준다.
+     */
+    public PublicHolidays getPublicHolidays(int year, String countryCode) {
+        NagerLane lane = NagerLane.current();
+        return throttle.withBulkhead(lane, () -> fetchPublicHolidays(year, countryCode, lane).block());
+    }
+
+    // 응답 본문이 비어 있으면 빈 리스트
+    private Mono<PublicHolidays> fetchPublicHolidays(int year, String countryCode, NagerLane lane) {
+        return resilientGet(HOLIDAY_LIST, lane, PUBLIC_HOLIDAYS, year, countryCode)
+                .map(cached -> new PublicHolidays(cached.value(), cached.version()))
+                .defaultIfEmpty(PublicHolidays.uncached(List.of()));
+    }
+
+    /**
+     * 시도마다: rate limit 토큰 대기 → 조건부 GET (request-timeout 적용).
+     * 재시도할 수 있는 오류면 백오프 후 다시 시도하고, 횟수를 다 쓰면 마지막 오류를 그대로 전달.
+     */
+    private <T> Mono<CachedBody<T>> resilientGet(TypeReference<T> type, NagerLane lane, String uriTemplate, Object... uriVariables) {
+        NagerProperties.Retry retry = properties.retry();
+        String uri = UriComponentsBuilder.fromPath(uriTemplate).buildAndExpand(uriVariables).toUriString();
+        return throttle.acquirePermit(lane)
+                .then(Mono.defer(() -> getWithCache(uri, type, uriTemplate, uriVariables)).timeout(properties.requestTimeout()))
+                .retryWhen(Retry.backoff(retry.maxAttempts() - 1, retry.initialBackoff())
+                        .maxBackoff(retry.maxBackoff())
+                        .jitter(retry.jitter())
+                        .filter(NagerClient::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("[NagerClient] 재시도 {}/{} - uri={}, error={}",
+                                signal.totalRetries() + 1, retry.maxAttempts() - 1, uri, signal.failure().toString()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    // 일시적인 오류만 재시도 (4xx 는 다시 보내도 같은 결과)
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+
+    /**
+     * 조건부 GET. 캐시 키는 템플릿을 펼친 uri.
+     * - 캐시에 ETag / Last-Modified 가 있으면 If-None-Match / If-Modified-Since 전송
+     * - 304 이면 캐시된 본문을, 200 이면 새 본문을 캐시에 저장한 뒤 역직렬화해 그 캐시 항목의 version 과 함께 반환
+     */
+    private <T> Mono<CachedBody<T>> getWithCache(String uri, TypeReference<T> type, String uriTemplate, Object[] uriVariables) {
+        Optional<NagerResponseCache.Entry> cached = responseCache.find(uri);
+
         return webClient.get()
-                .uri("/PublicHolidays/{year}/{countryCode}", year, countryCode)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<NagerHolidayResponse>>() {})
-                .block();
+                .uri(uriTemplate, uriVariables)
+                .headers(headers -> cached.ifPresent(entry -> {
+                    if (entry.etag() != null) {
+                        headers.setIfNoneMatch(entry.etag());
+                    }
+                    if (entry.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, entry.lastModified());
+                    }
+                }))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached.isPresent()) {
+                        return response.releaseBody()
+                                .then(Mono.fromCallable(() ->
+                                        new CachedBody<>(parse(cached.get().body(), type), cached.get().version())));
+                    }
+                    if (response.statusCode().is2xxSuccessful()) {
+                        HttpHeaders headers = response.headers().asHttpHeaders();
+                        return response.bodyToMono(String.class)
+                                .map(body -> {
+                                    Long version = responseCache.store(uri, headers.getETag(),
+                                                    headers.getFirst(HttpHeaders.LAST_MODIFIED), body)
+                                            .map(NagerResponseCache.Entry::version)
+                                            .orElse(null);
+                                    return new CachedBody<>(parse(body, type), version);
+                                });
+                    }
+                    return response.createError();
+                });
+    }
+
+    private <T> T parse(String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Nager API 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    // 역직렬화한 본문 + 그 본문을 담은 캐시 항목 version (캐시하지 않았으면 null)
+    private record CachedBody<T>(T value, Long version) {
     }
 }
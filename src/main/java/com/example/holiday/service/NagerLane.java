@@ -0,0 +1,32 @@
+package com.example.holiday.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Nager API 호출 종류. 현재 스레드의 lane 에 따라 NagerThrottle 의 bulkhead / rate limit 이 나뉜다.
+ * 기본은 INTERACTIVE 이며, 배치 경로(HolidayFetcher)는 BATCH.call(...) 안에서 호출한다.
+ */
+public enum NagerLane {
+
+    INTERACTIVE,
+    BATCH;
+
+    private static final ThreadLocal<NagerLane> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static NagerLane current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 이 lane 으로 action 을 실행 (끝나면 이전 lane 으로 복원).
+     */
+    public <T> T call(Supplier<T> action) {
+        NagerLane previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.holiday.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * Nager API 응답 디스크 캐시 (URI 단위).
+ * - ETag / Last-Modified 와 응답 본문을 파일로 보관해 조건부 요청(If-None-Match / If-Modified-Since)에 사용
+ * - applied: 현재 본문이 DB에 반영(커밋)되었는지 여부. 304 응답 + applied 이면 DB 쓰기를 생략할 수 있음
+ * - applied 는 메모리에만 둔다. 디스크 캐시는 재시작 후에도 남지만 DB(H2 메모리)는 비어 있을 수 있으므로,
+ *   디스크에서 읽은 항목은 항상 미반영으로 시작해 첫 동기화가 본문을 다시 쓴다
+ */
+@Slf4j
+@Component
+public class NagerResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+
+    public NagerResponseCache(ObjectMapper objectMapper,
+                              @Value("${holiday.nager.cache.enabled:true}") boolean enabled,
+                              @Value("${holiday.nager.cache.dir:${java.io.tmpdir}/holiday-keeper/nager-cache}") Path directory) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = directory;
+    }
+
+    public static String publicHolidaysUri(int year, String countryCode) {
+        return "/PublicHolidays/" + year + "/" + countryCode;
+    }
+
+    public Optional<Entry> find(String uri) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.computeIfAbsent(uri, this::readFromDisk));
+    }
+
+    /**
+     * 200 응답 저장. 새 본문이므로 applied = false 로 시작.
+     * ETag / Last-Modified 가 모두 없으면 조건부 요청에 쓸 수 없으므로 남아 있던 이전 항목을 지운다
+     * (이전 검증자로 304 를 받거나 이전 applied 로 DB 쓰기를 건너뛰지 않도록).
+     *
+     * @return 저장한 항목 (캐시하지 않았으면 empty)
+     */
+    public Optional<Entry> store(String uri, String etag, String lastModified, String body) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        if (etag == null && lastModified == null) {
+            evict(uri);
+            return Optional.empty();
+        }
+        Entry entry = new Entry(uri, etag, lastModified, body, versionSequence.incrementAndGet(), false);
+        entries.put(uri, entry);
+        writeToDisk(entry);
+        return Optional.of(entry);
+    }
+
+    /**
+     * version 본문이 DB에 반영되었음을 기록. 트랜잭션 안이면 커밋 이후에 반영.
+     * 그 사이 새 본문이 저장되었으면(version 불일치) 아무것도 하지 않음.
+     */
+    public void markApplied(String uri, long version) {
+        afterCommit(() -> update(uri, entry -> entry.version() == version ? entry.withApplied(true) : entry));
+    }
+
+    /**
+     * DB 데이터가 외부 응답과 달라졌음(삭제 등)을 기록. 다음 동기화는 304 여도 다시 쓴다.
+     */
+    public void markStale(String uri) {
+        afterCommit(() -> update(uri, entry -> entry.withApplied(false)));
+    }
+
+    /**
+     * 모든 응답을 미반영으로 기록 (스냅샷 적재처럼 외부 응답을 거치지 않고 DB 를 통째로 바꾼 경우).
+     * 디스크에서 읽는 항목은 원래 미반영으로 시작하므로 메모리 항목만 바꾼다.
+     */
+    public void markAllStale() {
+        afterCommit(() -> entries.replaceAll((uri, entry) -> entry.withApplied(false)));
+    }
+
+    // applied 만 바꾸므로 디스크에는 쓰지 않음
+    private void update(String uri, UnaryOperator<Entry> change) {
+        find(uri).ifPresent(current -> entries.computeIfPresent(uri, (key, entry) -> change.apply(entry)));
+    }
+
+    private void evict(String uri) {
+        entries.remove(uri);
+        Path file = fileOf(uri);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[NagerResponseCache] 캐시 파일 삭제 실패 - {}", file, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Entry readFromDisk(String uri) {
+        Path file = fileOf(uri);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), Entry.class).withApplied(false);
+        } catch (IOException e) {
+            log.warn("[NagerResponseCache] 캐시 파일을 읽을 수 없어 무시합니다 - {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeToDisk(Entry entry) {
+        Path file = fileOf(entry.uri());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "entry", ".tmp");
+            objectMapper.writeValue(temp.toFile(), entry);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[NagerResponseCache] 캐시 파일 저장 실패 - {}", file, e);
+        }
+    }
+
+    private Path fileOf(String uri) {
+        return directory.resolve(uri.replaceAll("[^A-Za-z0-9]+", "_") + ".json");
+    }
+
+    public record Entry(
+            String uri,
+            String etag,
+            String lastModified,
+            String body,
+            long version,
+            boolean applied
+    ) {
+        Entry withApplied(boolean applied) {
+            return new Entry(uri, etag, lastModified, body, version, applied);
+        }
+    }
+}
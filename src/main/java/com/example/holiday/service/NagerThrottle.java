@@ -0,0 +1,102 @@
+package com.example.holiday.service;
+
+import com.example.holiday.config.NagerProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Nager API 호출 제어 (lane 별).
+ * - bulkhead: 동시에 진행 중인 호출 수 제한. 자리가 나지 않으면 maxWait 후 실패
+ * - rate limit: token bucket. 토큰이 모자라면 다음 토큰이 생길 때까지 지연(예약)한 뒤 요청
+ * 배치와 사용자 요청이 서로 다른 lane 을 쓰므로, 배치가 한도를 다 써도 사용자 요청은 밀리지 않는다.
+ */
+@Component
+public class NagerThrottle {
+
+    private final Map<NagerLane, Lane> lanes = new EnumMap<>(NagerLane.class);
+
+    public NagerThrottle(NagerProperties properties) {
+        lanes.put(NagerLane.INTERACTIVE, new Lane(properties.lanes().interactive()));
+        lanes.put(NagerLane.BATCH, new Lane(properties.lanes().batch()));
+    }
+
+    /**
+     * lane 의 bulkhead 자리를 차지한 동안 call 을 실행 (블로킹 호출용).
+     */
+    public <T> T withBulkhead(NagerLane lane, Supplier<T> call) {
+        Semaphore bulkhead = lanes.get(lane).bulkhead;
+        Duration maxWait = lanes.get(lane).maxWait;
+        try {
+            if (!bulkhead.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Nager API " + lane + " 동시 호출 한도 초과 (대기 " + maxWait + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Nager API 호출 대기 중 중단되었습니다.", e);
+        }
+        try {
+            return call.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * lane 의 토큰 하나를 예약하고, 토큰이 생길 때까지 기다렸다가 완료되는 Mono.
+     */
+    public Mono<Void> acquirePermit(NagerLane lane) {
+        return Mono.defer(() -> {
+            Duration wait = lanes.get(lane).bucket.reserve();
+            return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+        });
+    }
+
+    private static final class Lane {
+        private final Semaphore bulkhead;
+        private final Duration maxWait;
+        private final TokenBucket bucket;
+
+        Lane(NagerProperties.Lane properties) {
+            this.bulkhead = new Semaphore(properties.maxConcurrent(), true);
+            this.maxWait = properties.maxWait();
+            this.bucket = new TokenBucket(properties.permitsPerSecond(), properties.burst());
+        }
+    }
+
+    /**
+     * 예약형 token bucket: 토큰이 없으면 음수(빚)로 빼고 그만큼 기다릴 시간을 돌려준다.
+     * 이후 예약은 앞선 빚까지 기다리므로 요청이 몰려도 초당 호출 수가 permitsPerSecond 를 넘지 않는다.
+     */
+    private static final class TokenBucket {
+        private final double permitsPerNano;
+        private final double capacity;
+
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / 1_000_000_000.0;
+            this.capacity = burst;
+            this.tokens = burst;
+        }
+
+        synchronized Duration reserve() {
+            if (permitsPerNano <= 0) {
+                return Duration.ZERO;
+            }
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+
+            tokens -= 1;
+            return tokens >= 0 ? Duration.ZERO : Duration.ofNanos((long) Math.ceil(-tokens / permitsPerNano));
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.holiday.service;
+
+import com.example.holiday.domain.Country;
+import com.example.holiday.domain.HolidayType;
+import com.example.holiday.repository.CountryRepository;
+import com.example.holiday.repository.HolidayTypeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Country / HolidayType 참조 데이터 캐시.
+ * - 시작 시 전체를 읽어 불변 Map 으로 보관하고, 추가는 copy-on-write 로 새 Map 을 교체
+ * - 트랜잭션 안에서 만들거나 읽은 엔티티는 커밋 이후에만 공유 Map 에 반영 (롤백된 데이터가 남지 않도록)
+ *   커밋 전까지는 트랜잭션 로컬 Map 에서 찾아 같은 트랜잭션 안의 반복 조회도 SQL 없이 처리
+ * - 생성은 INSERT IGNORE 로 수행해 이미 있는 행은 바꾸지 않고, 동시에 같은 코드를 만들어도 중복 키 오류가 나지 않음
+ * - 적중 / 미적중 수는 holiday.reference.cache{result=hit|miss} 로 노출
+ */
+@Slf4j
+@Component
+public class ReferenceDataCache {
+
+    private final CountryRepository countryRepository;
+    private final HolidayTypeRepository holidayTypeRepository;
+
+    private volatile Map<String, Country> countries = Map.of();
+    private volatile Map<String, HolidayType> holidayTypes = Map.of();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ReferenceDataCache(CountryRepository countryRepository,
+                              HolidayTypeRepository holidayTypeRepository,
+                              MeterRegistry meterRegistry) {
+        this.countryRepository = countryRepository;
+        this.holidayTypeRepository = holidayTypeRepository;
+        registerCounter(meterRegistry, "hit", hits);
+        registerCounter(meterRegistry, "miss", misses);
+    }
+
+    /**
+     * DB 전체를 다시 읽어 캐시를 교체.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        countries = Map.copyOf(index(countryRepository.findAll(), Country::getCode));
+        holidayTypes = Map.copyOf(index(holidayTypeRepository.findAll(), HolidayType::getCode));
+        log.info("[ReferenceDataCache] 적재 완료 - countries={}, holidayTypes={}", countries.size(), holidayTypes.size());
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에 다시 읽고, 밖이면 바로 다시 읽음 (롤백된 데이터가 캐시에 남지 않도록).
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    public Optional<Country> findCountry(String code) {
+        Country cached = lookup(countries, pending().countries(), code);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Country> loaded = countryRepository.findById(code);
+        loaded.ifPresent(country -> remember(List.of(country), List.of()));
+        return loaded;
+    }
+
+    /**
+     * 신규 국가 목록 일괄 저장 (빈 DB 초기 적재용).
+     */
+    public void saveCountries(List<Country> newCountries) {
+        remember(countryRepository.saveAll(newCountries), List.of());
+    }
+
+    /**
+     * 국가가 없으면 생성, 있으면 그대로 반환.
+     */
+    public Country getOrCreateCountry(String code, String name) {
+        return findCountry(code).orElseGet(() -> {
+            countryRepository.insertIfAbsent(code, name);
+            Country country = countryRepository.findById(code)
+                    .orElseThrow(() -> new IllegalStateException("Country was not created: " + code));
+            remember(List.of(country), List.of());
+            return country;
+        });
+    }
+
+    /**
+     * 공휴일 타입이 없으면 생성, 있으면 그대로 반환.
+     */
+    public HolidayType getOrCreateHolidayType(String code) {
+        HolidayType cached = lookup(holidayTypes, pending().holidayTypes(), code);
+        if (cached != null) {
+            return cached;
+        }
+
+        holidayTypeRepository.insertIfAbsent(code);
+        HolidayType type = holidayTypeRepository.findById(code)
+                .orElseThrow(() -> new IllegalStateException("HolidayType was not created: " + code));
+        remember(List.of(), List.of(type));
+        return type;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), countries.size(), holidayTypes.size());
+    }
+
+    private static void registerCounter(MeterRegistry meterRegistry, String result, LongAdder count) {
+        FunctionCounter.builder("holiday.reference.cache", count, LongAdder::sum)
+                .description("Country / HolidayType 참조 데이터 캐시 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private <T> T lookup(Map<String, T> shared, Map<String, T> local, String code) {
+        T value = shared.get(code);
+        if (value == null && local != null) {
+            value = local.get(code);
+        }
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 트랜잭션 안이면 로컬에 보관했다가 커밋 후 공유 Map 에 반영, 밖이면 바로 반영.
+     */
+    private void remember(Collection<Country> newCountries, Collection<HolidayType> newTypes) {
+        Pending pending = pending();
+        if (pending.countries() == null) {
+            publish(newCountries, newTypes);
+            return;
+        }
+        newCountries.forEach(country -> pending.countries().put(country.getCode(), country));
+        newTypes.forEach(type -> pending.holidayTypes().put(type.getCode(), type));
+    }
+
+    private synchronized void publish(Collection<Country> newCountries, Collection<HolidayType> newTypes) {
+        if (!newCountries.isEmpty()) {
+            Map<String, Country> next = new HashMap<>(countries);
+            newCountries.forEach(country -> next.putIfAbsent(country.getCode(), country));
+            countries = Map.copyOf(next);
+        }
+        if (!newTypes.isEmpty()) {
+            Map<String, HolidayType> next = new HashMap<>(holidayTypes);
+            newTypes.forEach(type -> next.putIfAbsent(type.getCode(), type));
+            holidayTypes = Map.copyOf(next);
+        }
+    }
+
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Pending.NONE;
+        }
+
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending(new HashMap<>(), new HashMap<>());
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(created.countries().values(), created.holidayTypes().values());
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ReferenceDataCache.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private static <T> Map<String, T> index(List<T> values, Function<T, String> key) {
+        return values.stream().collect(Collectors.toMap(key, Function.identity()));
+    }
+
+    // 현재 트랜잭션에서 만들거나 읽은, 아직 공유 Map 에 반영되지 않은 엔티티
+    private record Pending(Map<String, Country> countries, Map<String, HolidayType> holidayTypes) {
+        static final Pending NONE = new Pending(null, null);
+    }
+
+    public record Stats(long hits, long misses, int countries, int holidayTypes) {
+    }
+}
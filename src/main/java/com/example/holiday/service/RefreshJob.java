@@ -0,0 +1,59 @@
+package com.example.holiday.service;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 refresh 작업 하나의 상태. 같은 (연도, 국가) 요청이 진행 중이면 같은 작업을 공유한다.
+ */
+@Getter
+public class RefreshJob {
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final int year;
+    private final String countryCode;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile SyncResult result;
+    private volatile String error;
+
+    private final CompletableFuture<SyncResult> completion = new CompletableFuture<>();
+
+    RefreshJob(int year, String countryCode) {
+        this.year = year;
+        this.countryCode = countryCode;
+    }
+
+    void start() {
+        this.startedAt = Instant.now();
+        this.status = Status.RUNNING;
+    }
+
+    void succeed(SyncResult result) {
+        this.result = result;
+        this.finishedAt = Instant.now();
+        this.status = Status.SUCCEEDED;
+        completion.complete(result);
+    }
+
+    void fail(RuntimeException error) {
+        this.error = error.getMessage();
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+        completion.completeExceptionally(error);
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+}
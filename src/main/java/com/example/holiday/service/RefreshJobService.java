@@ -0,0 +1,189 @@
+package com.example.holiday.service;
+
+import com.example.holiday.metrics.HolidayMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refresh 작업 실행기.
+ * - 같은 (연도, 국가) refresh 가 대기 중이거나 실행 중이면 새로 실행하지 않고 그 작업에 합류
+ * - 고정 크기 워커 풀(holiday.refresh.workers)로 외부 API 에 동시에 나가는 refresh 수를 제한하고,
+ *   대기열(holiday.refresh.queue-capacity)이 가득 차면 즉시 RefreshQueueFullException (503 + Retry-After: holiday.refresh.retry-after)
+ * - 끝난 작업은 상태 조회용으로 최근 holiday.refresh.max-retained-jobs 건까지 보관
+ * - 지연 적재(submitLoad)도 같은 워커에서 실행하되 refresh 와는 합류하지 않음 (applied 로 생략되지 않도록)
+ */
+@Slf4j
+@Service
+public class RefreshJobService {
+
+    private static final String REFRESH_JOB = "refresh";
+    private static final String LAZY_LOAD_JOB = "lazy_load";
+
+    private final HolidayService holidayService;
+    private final HolidayMetrics metrics;
+    private final ThreadPoolExecutor workers;
+    private final int maxRetainedJobs;
+    private final Duration retryAfter;
+
+    private final ConcurrentMap<RefreshKey, RefreshJob> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, RefreshJob> jobs;
+
+    public RefreshJobService(HolidayService holidayService,
+                             HolidayMetrics metrics,
+                             @Value("${holiday.refresh.workers:4}") int workers,
+                             @Value("${holiday.refresh.queue-capacity:100}") int queueCapacity,
+                             @Value("${holiday.refresh.max-retained-jobs:1000}") int maxRetainedJobs,
+                             @Value("${holiday.refresh.retry-after:5s}") Duration retryAfter) {
+        this.holidayService = holidayService;
+        this.metrics = metrics;
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("holiday-refresh-", 0).daemon().factory());
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.retryAfter = retryAfter;
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, RefreshJob> eldest) {
+                return size() > RefreshJobService.this.maxRetainedJobs;
+            }
+        };
+    }
+
+    /**
+     * (year, countryCode) refresh 를 예약하고 작업을 반환. 진행 중인 같은 작업이 있으면 그것을 반환.
+     */
+    public RefreshJob submit(int year, String countryCode) {
+        return submit(year, countryCode, false);
+    }
+
+    /**
+     * (지연 적재) 아직 적재하지 않은 (year, countryCode)의 적재(HolidayService.load)를 예약하고 작업을 반환.
+     * 진행 중인 같은 적재가 있으면 그것을 반환.
+     */
+    public RefreshJob submitLoad(int year, String countryCode) {
+        return submit(year, countryCode, true);
+    }
+
+    private RefreshJob submit(int year, String countryCode, boolean load) {
+        holidayService.validateYearRange(year);
+        RefreshKey key = new RefreshKey(year, countryCode.trim().toUpperCase(), load);
+
+        while (true) {
+            RefreshJob existing = inFlight.get(key);
+            if (existing != null) {
+                log.debug("[RefreshJobService] 진행 중인 작업에 합류 - job={}, year={}, country={}",
+                        existing.getId(), key.year(), key.countryCode());
+                return existing;
+            }
+
+            RefreshJob job = new RefreshJob(key.year(), key.countryCode());
+            if (inFlight.putIfAbsent(key, job) != null) {
+                continue;   // 다른 요청이 먼저 등록함 → 그 작업에 합류
+            }
+
+            synchronized (jobs) {
+                jobs.put(job.getId(), job);
+            }
+            try {
+                workers.execute(() -> run(key, job));
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(key, job);
+                synchronized (jobs) {
+                    jobs.remove(job.getId());
+                }
+                throw queueFull(e);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * 작업 tasks 건을 더 예약할 자리가 있는지 확인 (여러 (국가, 연도)를 한꺼번에 예약하기 전에 호출).
+     * 남은 자리는 대기열 빈 칸 + 쉬는 워커 수로 어림하므로, 확인 뒤 예약(submit)이 거절될 수는 있다.
+     *
+     * @throws IllegalArgumentException  대기열과 워커가 모두 비어 있어도 한 번에 받을 수 없는 건수
+     * @throws RefreshQueueFullException 지금 남은 자리가 부족한 경우
+     */
+    public void ensureCapacity(int tasks) {
+        int total = workers.getMaximumPoolSize() + workers.getQueue().size() + workers.getQueue().remainingCapacity();
+        if (tasks > total) {
+            throw new IllegalArgumentException("한 번에 적재할 수 있는 (국가, 연도)는 최대 " + total + "건입니다. 요청: " + tasks);
+        }
+        int remaining = workers.getQueue().remainingCapacity() + workers.getMaximumPoolSize() - workers.getActiveCount();
+        if (tasks > remaining) {
+            throw queueFull(null);
+        }
+    }
+
+    /**
+     * 동기 refresh: 작업을 예약(또는 합류)하고 끝날 때까지 기다린다.
+     */
+    public SyncResult refresh(int year, String countryCode) {
+        try {
+            return submit(year, countryCode).getCompletion().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public Optional<RefreshJob> find(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    private void run(RefreshKey key, RefreshJob job) {
+        job.start();
+        String jobName = key.load() ? LAZY_LOAD_JOB : REFRESH_JOB;
+        long started = System.nanoTime();
+        SyncResult result;
+        try {
+            result = key.load()
+                    ? holidayService.load(key.year(), key.countryCode())
+                    : holidayService.refresh(key.year(), key.countryCode());
+        } catch (RuntimeException e) {
+            // 없는 국가 코드 같은 요청 오류는 지표에 남기지 않음 (사용자 입력이 태그 값이 되지 않도록)
+            if (!(e instanceof IllegalArgumentException)) {
+                metrics.recordSyncFailure(jobName, key.year(), key.countryCode());
+            }
+            log.warn("[RefreshJobService] refresh 실패 - job={}, year={}, country={}, error={}",
+                    job.getId(), key.year(), key.countryCode(), e.toString());
+            // 완료를 알리기 전에 빼서, 결과를 받은 호출자의 다음 요청은 새 작업이 되도록
+            inFlight.remove(key, job);
+            job.fail(e);
+            return;
+        }
+        metrics.recordSync(jobName, key.year(), key.countryCode(), System.nanoTime() - started, result);
+        inFlight.remove(key, job);
+        job.succeed(result);
+    }
+
+    private RefreshQueueFullException queueFull(Throwable cause) {
+        return new RefreshQueueFullException("refresh 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.", retryAfter, cause);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private record RefreshKey(int year, String countryCode, boolean load) {
+    }
+}
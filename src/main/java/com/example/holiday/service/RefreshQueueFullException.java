@@ -0,0 +1,20 @@
+package com.example.holiday.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * refresh 대기열이 가득 차 작업을 받을 수 없음. 잠시 뒤 다시 시도하면 되는 일시적 거절이라
+ * API 는 503 + Retry-After(retryAfter) 로 응답한다.
+ */
+@Getter
+public class RefreshQueueFullException extends IllegalStateException {
+
+    private final Duration retryAfter;
+
+    public RefreshQueueFullException(String message, Duration retryAfter, Throwable cause) {
+        super(message, cause);
+        this.retryAfter = retryAfter;
+    }
+}
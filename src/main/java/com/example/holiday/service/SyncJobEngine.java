@@ -0,0 +1,197 @@
+package com.example.holiday.service;
+
+import com.example.holiday.domain.SyncCheckpoint;
+import com.example.holiday.domain.SyncJobType;
+import com.example.holiday.domain.SyncStatus;
+import com.example.holiday.dto.response.CountryYearHolidays;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.metrics.HolidayMetrics;
+import com.example.holiday.repository.SyncCheckpointRepository;
+import com.example.holiday.repository.SyncCheckpointRepository.IncompleteJob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 체크포인트 기반 동기화 작업 실행기.
+ * - 작업(job)을 (연도, 국가) 단위로 나눠 sync_checkpoint 에 기록한 뒤 실행
+ * - 단위마다 짧은 트랜잭션 하나로 처리 + DONE 기록을 함께 커밋 (한 단위 실패가 다른 단위를 롤백하지 않음)
+ * - 실패한 단위는 FAILED / lastError 를 남기고 다음 실행(재시작 포함) 때 holiday.sync.max-attempts 까지 다시 시도
+ * - 외부 API 조회는 HolidayFetcher 로 트랜잭션 밖에서 병렬 수행
+ */
+@Slf4j
+@Component
+public class SyncJobEngine {
+
+    private final SyncCheckpointRepository checkpointRepository;
+    private final HolidayFetcher holidayFetcher;
+    private final TransactionTemplate transactionTemplate;
+    private final HolidayMetrics metrics;
+    private final int maxAttempts;
+
+    public SyncJobEngine(SyncCheckpointRepository checkpointRepository,
+                         HolidayFetcher holidayFetcher,
+                         TransactionTemplate transactionTemplate,
+                         HolidayMetrics metrics,
+                         @Value("${holiday.sync.max-attempts:3}") int maxAttempts) {
+        this.checkpointRepository = checkpointRepository;
+        this.holidayFetcher = holidayFetcher;
+        this.transactionTemplate = transactionTemplate;
+        this.metrics = metrics;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 단위 처리: 조회한 외부 응답을 DB 에 반영. 엔진이 연 트랜잭션 안에서 호출된다.
+     */
+    @FunctionalInterface
+    public interface UnitAction {
+        SyncResult apply(int year, String countryCode, PublicHolidays holidays);
+    }
+
+    /**
+     * years × countryCodes 중 이 작업에 아직 없는 단위를 추가하고, 끝나지 않은 단위를 실행.
+     * 같은 이름으로 다시 호출하면 이미 DONE 인 단위는 건너뛴다.
+     */
+    public SyncJobReport run(String jobName, SyncJobType jobType, List<Integer> years, List<String> countryCodes,
+                             UnitAction action) {
+        plan(jobName, jobType, years, countryCodes);
+        return resume(jobName, action);
+    }
+
+    /**
+     * 작업의 끝나지 않은 단위(PENDING, 재시도 가능한 FAILED)를 실행.
+     */
+    public SyncJobReport resume(String jobName, UnitAction action) {
+        List<SyncCheckpoint> runnable = transactionTemplate.execute(status ->
+                checkpointRepository.findRunnable(jobName, SyncStatus.DONE, maxAttempts));
+        if (runnable == null || runnable.isEmpty()) {
+            return SyncJobReport.empty(jobName);
+        }
+
+        Map<SyncUnit, Long> checkpointIds = new HashMap<>();
+        for (SyncCheckpoint checkpoint : runnable) {
+            checkpointIds.put(new SyncUnit(checkpoint.getYear(), checkpoint.getCountryCode()), checkpoint.getId());
+        }
+        log.info("[SyncJobEngine] 작업 시작 - job={}, units={}", jobName, checkpointIds.size());
+
+        Progress progress = new Progress(runnable.getFirst().getJobType().name().toLowerCase());
+        holidayFetcher.fetchAll(new ArrayList<>(checkpointIds.keySet()),
+                fetched -> apply(jobName, checkpointIds.get(unitOf(fetched)), fetched, action, progress),
+                (unit, error) -> fail(jobName, checkpointIds.get(unit), unit, error, progress));
+
+        SyncJobReport report = new SyncJobReport(jobName, checkpointIds.size(), progress.completed, progress.failed,
+                progress.result);
+        log.info("[SyncJobEngine] 작업 종료 - {}", report);
+        return report;
+    }
+
+    /**
+     * 실행할 단위가 남은 작업 목록 (재시작 후 정리용).
+     */
+    public List<IncompleteJob> incompleteJobs() {
+        return transactionTemplate.execute(status ->
+                checkpointRepository.findIncompleteJobs(SyncStatus.DONE, maxAttempts));
+    }
+
+    public boolean hasRunnableUnits(String jobName) {
+        List<SyncCheckpoint> runnable = transactionTemplate.execute(status ->
+                checkpointRepository.findRunnable(jobName, SyncStatus.DONE, maxAttempts));
+        return runnable != null && !runnable.isEmpty();
+    }
+
+    /**
+     * 작업 기록 삭제 (같은 이름으로 처음부터 다시 계획하거나, 이어서 실행하지 않을 작업을 정리할 때).
+     */
+    public void discard(String jobName) {
+        checkpointRepository.deleteByJobName(jobName);
+    }
+
+    private void plan(String jobName, SyncJobType jobType, List<Integer> years, List<String> countryCodes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<SyncUnit> planned = checkpointRepository.findByJobName(jobName).stream()
+                    .map(checkpoint -> new SyncUnit(checkpoint.getYear(), checkpoint.getCountryCode()))
+                    .collect(Collectors.toSet());
+
+            List<SyncCheckpoint> added = new ArrayList<>();
+            for (int year : years) {
+                for (String countryCode : countryCodes) {
+                    if (!planned.contains(new SyncUnit(year, countryCode))) {
+                        added.add(SyncCheckpoint.pending(jobName, jobType, year, countryCode));
+                    }
+                }
+            }
+            checkpointRepository.saveAll(added);
+        });
+    }
+
+    // 단위 처리와 DONE 기록을 한 트랜잭션으로 커밋 (지표는 커밋까지의 시간)
+    private void apply(String jobName, Long checkpointId, CountryYearHolidays fetched, UnitAction action,
+                       Progress progress) {
+        try {
+            long started = System.nanoTime();
+            SyncResult result = transactionTemplate.execute(status -> {
+                SyncResult applied = action.apply(fetched.year(), fetched.countryCode(), fetched.holidays());
+                checkpoint(checkpointId).complete();
+                return applied;
+            });
+            metrics.recordSync(progress.jobType, fetched.year(), fetched.countryCode(),
+                    System.nanoTime() - started, result);
+            progress.completed++;
+            progress.result = progress.result.plus(result);
+        } catch (RuntimeException e) {
+            fail(jobName, checkpointId, unitOf(fetched), e, progress);
+        }
+    }
+
+    private void fail(String jobName, Long checkpointId, SyncUnit unit, RuntimeException error, Progress progress) {
+        log.warn("[SyncJobEngine] 단위 실패 - job={}, year={}, country={}, error={}",
+                jobName, unit.year(), unit.countryCode(), error.toString());
+        progress.failed++;
+        metrics.recordSyncFailure(progress.jobType, unit.year(), unit.countryCode());
+        transactionTemplate.executeWithoutResult(status -> checkpoint(checkpointId).fail(error.toString()));
+    }
+
+    private SyncCheckpoint checkpoint(Long id) {
+        return checkpointRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("SyncCheckpoint not found: " + id));
+    }
+
+    private static SyncUnit unitOf(CountryYearHolidays fetched) {
+        return new SyncUnit(fetched.year(), fetched.countryCode());
+    }
+
+    // fetchAll 콜백은 호출 스레드에서만 실행되므로 동기화 없이 누적
+    private static final class Progress {
+        private final String jobType;
+        private int completed;
+        private int failed;
+        private SyncResult result = SyncResult.EMPTY;
+
+        private Progress(String jobType) {
+            this.jobType = jobType;
+        }
+    }
+
+    /**
+     * 작업 실행 결과.
+     *
+     * @param units     이번 실행에서 처리한 단위 수
+     * @param completed 성공한 단위 수
+     * @param failed    실패한 단위 수 (다음 실행 때 재시도)
+     * @param result    성공한 단위들의 행 수 합계
+     */
+    public record SyncJobReport(String jobName, int units, int completed, int failed, SyncResult result) {
+        static SyncJobReport empty(String jobName) {
+            return new SyncJobReport(jobName, 0, 0, 0, SyncResult.EMPTY);
+        }
+    }
+}
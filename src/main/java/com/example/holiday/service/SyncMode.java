@@ -0,0 +1,13 @@
+package com.example.holiday.service;
+
+/**
+ * 기존 데이터가 있는 연도/국가를 다시 동기화하는 방식.
+ */
+public enum SyncMode {
+
+    /** 연도/국가 데이터를 모두 삭제 후 재삽입 */
+    REPLACE,
+
+    /** 기존 행과 외부 응답을 (날짜, 현지어 이름) 키로 비교해 필요한 INSERT/UPDATE/DELETE 만 수행 */
+    RECONCILE
+}
@@ -0,0 +1,38 @@
+package com.example.holiday.service;
+
+/**
+ * 동기화 결과 (행 수).
+ * notModified: 외부 응답이 마지막 반영 이후 바뀌지 않아(304) DB 쓰기를 생략한 연도/국가 수.
+ */
+public record SyncResult(
+        int inserted,
+        int updated,
+        int deleted,
+        int unchanged,
+        int notModified
+) {
+
+    public static final SyncResult EMPTY = new SyncResult(0, 0, 0, 0, 0);
+    public static final SyncResult NOT_MODIFIED = new SyncResult(0, 0, 0, 0, 1);
+
+    public static SyncResult inserted(int count) {
+        return new SyncResult(count, 0, 0, 0, 0);
+    }
+
+    /**
+     * holiday 행이 하나라도 추가/수정/삭제되었는지 여부.
+     */
+    public boolean changed() {
+        return inserted + updated + deleted > 0;
+    }
+
+    public SyncResult plus(SyncResult other) {
+        return new SyncResult(
+                inserted + other.inserted,
+                updated + other.updated,
+                deleted + other.deleted,
+                unchanged + other.unchanged,
+                notModified + other.notModified
+        );
+    }
+}
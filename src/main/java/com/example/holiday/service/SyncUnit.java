@@ -0,0 +1,7 @@
+package com.example.holiday.service;
+
+/**
+ * 동기화 작업 단위: 한 연도·한 국가.
+ */
+public record SyncUnit(int year, String countryCode) {
+}
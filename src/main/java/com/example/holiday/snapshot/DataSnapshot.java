@@ -0,0 +1,35 @@
+package com.example.holiday.snapshot;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 참조 데이터 + 공휴일 전체 스냅샷 (DataSnapshotCodec 으로 파일에 저장 / 복원).
+ */
+public record DataSnapshot(
+        Instant createdAt,
+        List<CountryRow> countries,
+        List<String> holidayTypes,
+        List<HolidayRow> holidays
+) {
+
+    public record CountryRow(String code, String name, String region) {
+    }
+
+    /**
+     * holiday 한 행. id 도 그대로 보관해 인스턴스가 달라도 같은 공휴일은 같은 id(커서·ETag 호환)를 갖는다.
+     */
+    public record HolidayRow(
+            long id,
+            String countryCode,
+            LocalDate date,
+            String localName,
+            String name,
+            String typeCode,
+            boolean fixed,
+            boolean global,
+            Integer launchYear
+    ) {
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.holiday.snapshot;
+
+import com.example.holiday.snapshot.DataSnapshot.CountryRow;
+import com.example.holiday.snapshot.DataSnapshot.HolidayRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 스냅샷 바이너리 형식 (버전 1).
+ * <pre>
+ * "HKSN" | version(u16) | gzip(
+ *     createdAt(epoch ms, i64)
+ *     문자열 사전: n, UTF * n              (국가명·공휴일명 등 반복되는 문자열은 한 번만 저장)
+ *     countries:   n, (code, name, region+1) 사전 인덱스
+ *     types:       n, code 사전 인덱스
+ *     holidays:    n, 이후 열(column) 단위로 n 개씩
+ *                  id 차분 | 국가 인덱스 | epochDay 차분 | localName | name | type+1 | flags | launchYear(0 = null)
+ * )
+ * </pre>
+ * 정수는 모두 varint(차분은 zigzag) 로 기록하고, 행은 (국가, 날짜, id) 순으로 정렬해 차분이 작게 나오도록 한다.
+ */
+public final class DataSnapshotCodec {
+
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = {'H', 'K', 'S', 'N'};
+
+    private static final int FLAG_FIXED = 1;
+    private static final int FLAG_GLOBAL = 1 << 1;
+
+    private DataSnapshotCodec() {
+    }
+
+    public static void write(DataSnapshot snapshot, OutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.write(VERSION >>> 8);
+        out.write(VERSION & 0xFF);
+
+        GZIPOutputStream gzip = new GZIPOutputStream(out, 64 * 1024);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip, 64 * 1024));
+
+        List<HolidayRow> holidays = new ArrayList<>(snapshot.holidays());
+        holidays.sort((a, b) -> {
+            int byCountry = a.countryCode().compareTo(b.countryCode());
+            if (byCountry != 0) {
+                return byCountry;
+            }
+            int byDate = a.date().compareTo(b.date());
+            return byDate != 0 ? byDate : Long.compare(a.id(), b.id());
+        });
+
+        StringTable strings = new StringTable();
+        snapshot.countries().forEach(c -> {
+            strings.add(c.code());
+            strings.add(c.name());
+            if (c.region() != null) {
+                strings.add(c.region());
+            }
+        });
+        snapshot.holidayTypes().forEach(strings::add);
+        holidays.forEach(h -> {
+            strings.add(h.localName());
+            strings.add(h.name());
+        });
+
+        data.writeLong(snapshot.createdAt().toEpochMilli());
+
+        writeVarint(data, strings.values.size());
+        for (String value : strings.values) {
+            data.writeUTF(value);
+        }
+
+        Map<String, Integer> countryIndex = new HashMap<>();
+        writeVarint(data, snapshot.countries().size());
+        for (CountryRow country : snapshot.countries()) {
+            countryIndex.put(country.code(), countryIndex.size());
+            writeVarint(data, strings.indexOf(country.code()));
+            writeVarint(data, strings.indexOf(country.name()));
+            writeVarint(data, country.region() == null ? 0 : strings.indexOf(country.region()) + 1);
+        }
+
+        Map<String, Integer> typeIndex = new HashMap<>();
+        writeVarint(data, snapshot.holidayTypes().size());
+        for (String type : snapshot.holidayTypes()) {
+            typeIndex.put(type, typeIndex.size());
+            writeVarint(data, strings.indexOf(type));
+        }
+
+        writeVarint(data, holidays.size());
+        long previousId = 0;
+        for (HolidayRow h : holidays) {
+            writeVarint(data, zigzag(h.id() - previousId));
+            previousId = h.id();
+        }
+        for (HolidayRow h : holidays) {
+            Integer index = countryIndex.get(h.countryCode());
+            if (index == null) {
+                throw new IllegalStateException("스냅샷에 없는 국가의 공휴일입니다: " + h.countryCode());
+            }
+            writeVarint(data, index);
+        }
+        long previousDay = 0;
+        for (HolidayRow h : holidays) {
+            long epochDay = h.date().toEpochDay();
+            writeVarint(data, zigzag(epochDay - previousDay));
+            previousDay = epochDay;
+        }
+        for (HolidayRow h : holidays) {
+            writeVarint(data, strings.indexOf(h.localName()));
+        }
+        for (HolidayRow h : holidays) {
+            writeVarint(data, strings.indexOf(h.name()));
+        }
+        for (HolidayRow h : holidays) {
+            writeVarint(data, h.typeCode() == null ? 0 : typeIndex.get(h.typeCode()) + 1);
+        }
+        for (HolidayRow h : holidays) {
+            data.writeByte((h.fixed() ? FLAG_FIXED : 0) | (h.global() ? FLAG_GLOBAL : 0));
+        }
+        for (HolidayRow h : holidays) {
+            writeVarint(data, h.launchYear() == null ? 0 : h.launchYear());
+        }
+
+        data.flush();
+        gzip.finish();
+    }
+
+    public static DataSnapshot read(InputStream in) throws IOException {
+        InputStream buffered = new BufferedInputStream(in, 64 * 1024);
+        byte[] magic = buffered.readNBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalArgumentException("holiday 스냅샷 파일이 아닙니다.");
+        }
+        int version = (buffered.read() << 8) | buffered.read();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+
+        DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(buffered, 64 * 1024)));
+
+        Instant createdAt = Instant.ofEpochMilli(data.readLong());
+
+        String[] strings = new String[readVarint(data)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = data.readUTF();
+        }
+
+        List<CountryRow> countries = new ArrayList<>();
+        int countryCount = readVarint(data);
+        for (int i = 0; i < countryCount; i++) {
+            String code = strings[readVarint(data)];
+            String name = strings[readVarint(data)];
+            int region = readVarint(data);
+            countries.add(new CountryRow(code, name, region == 0 ? null : strings[region - 1]));
+        }
+
+        List<String> types = new ArrayList<>();
+        int typeCount = readVarint(data);
+        for (int i = 0; i < typeCount; i++) {
+            types.add(strings[readVarint(data)]);
+        }
+
+        int n = readVarint(data);
+        long[] ids = new long[n];
+        long previousId = 0;
+        for (int i = 0; i < n; i++) {
+            previousId += unzigzag(readVarlong(data));
+            ids[i] = previousId;
+        }
+        int[] countryIndexes = readVarints(data, n);
+        long[] epochDays = new long[n];
+        long previousDay = 0;
+        for (int i = 0; i < n; i++) {
+            previousDay += unzigzag(readVarlong(data));
+            epochDays[i] = previousDay;
+        }
+        int[] localNames = readVarints(data, n);
+        int[] names = readVarints(data, n);
+        int[] typeIndexes = readVarints(data, n);
+        byte[] flags = new byte[n];
+        data.readFully(flags);
+        int[] launchYears = readVarints(data, n);
+
+        List<HolidayRow> holidays = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            holidays.add(new HolidayRow(
+                    ids[i],
+                    countries.get(countryIndexes[i]).code(),
+                    LocalDate.ofEpochDay(epochDays[i]),
+                    strings[localNames[i]],
+                    strings[names[i]],
+                    typeIndexes[i] == 0 ? null : types.get(typeIndexes[i] - 1),
+                    (flags[i] & FLAG_FIXED) != 0,
+                    (flags[i] & FLAG_GLOBAL) != 0,
+                    launchYears[i] == 0 ? null : launchYears[i]
+            ));
+        }
+        return new DataSnapshot(createdAt, countries, types, holidays);
+    }
+
+    private static int[] readVarints(DataInputStream in, int n) throws IOException {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = readVarint(in);
+        }
+        return values;
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarint(DataInputStream in) throws IOException {
+        return Math.toIntExact(readVarlong(in));
+    }
+
+    private static long readVarlong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("손상된 스냅샷입니다 (varint).");
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class StringTable {
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        void add(String value) {
+            indexes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        int indexOf(String value) {
+            return indexes.get(value);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.holiday.snapshot;
+
+import com.example.holiday.domain.Country;
+import com.example.holiday.domain.HolidayType;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.CountryRepository;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.repository.HolidayTypeRepository;
+import com.example.holiday.service.NagerResponseCache;
+import com.example.holiday.service.ReferenceDataCache;
+import com.example.holiday.snapshot.DataSnapshot.CountryRow;
+import com.example.holiday.snapshot.DataSnapshot.HolidayRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * DB ↔ 스냅샷 파일.
+ * - export: 현재 국가 / 공휴일 타입 / 공휴일 전체를 DataSnapshotCodec 형식으로 기록
+ * - load: 빈 DB 에 JDBC 배치 INSERT 로 적재 (엔티티·영속성 컨텍스트를 거치지 않음) 후 holiday_seq 를 최대 id 뒤로 재시작.
+ *   커밋 뒤에는 외부 응답 캐시를 모두 미반영으로 돌려, 이어지는 동기화가 304 응답도 다시 반영하게 한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataSnapshotService {
+
+    private static final int BATCH_SIZE = 1000;
+    // Holiday 의 @SequenceGenerator allocationSize 와 같은 값
+    private static final int HOLIDAY_SEQ_ALLOCATION = 50;
+
+    private final CountryRepository countryRepository;
+    private final HolidayTypeRepository holidayTypeRepository;
+    private final HolidayRepository holidayRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceDataCache referenceDataCache;
+    private final NagerResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public DataSnapshot capture() {
+        List<CountryRow> countries = countryRepository.findAll().stream()
+                .sorted(Comparator.comparing(Country::getCode))
+                .map(country -> new CountryRow(country.getCode(), country.getName(), country.getRegion()))
+                .toList();
+        List<String> types = holidayTypeRepository.findAll().stream()
+                .map(HolidayType::getCode)
+                .sorted()
+                .toList();
+        List<HolidayRow> holidays = holidayRepository.findAllResponses().stream()
+                .map(DataSnapshotService::toRow)
+                .toList();
+        return new DataSnapshot(Instant.now(), countries, types, holidays);
+    }
+
+    /**
+     * 현재 데이터를 스냅샷으로 기록하고 공휴일 행 수를 반환.
+     */
+    public int export(OutputStream out) throws IOException {
+        DataSnapshot snapshot = capture();
+        DataSnapshotCodec.write(snapshot, out);
+        return snapshot.holidays().size();
+    }
+
+    /**
+     * 스냅샷을 읽어 적재. holiday 테이블이 비어 있어야 한다 (국가 / 타입은 이미 있으면 덮어씀).
+     */
+    @Transactional
+    public DataSnapshot load(InputStream in) throws IOException {
+        if (holidayRepository.count() > 0) {
+            throw new IllegalStateException("holiday 테이블이 비어 있을 때만 스냅샷을 적재할 수 있습니다.");
+        }
+        DataSnapshot snapshot = DataSnapshotCodec.read(in);
+
+        jdbcTemplate.batchUpdate("""
+                        MERGE INTO country (code, name, region, created_at, updated_at) KEY (code)
+                        VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                        """,
+                snapshot.countries(), BATCH_SIZE, (ps, country) -> {
+                    ps.setString(1, country.code());
+                    ps.setString(2, country.name());
+                    ps.setString(3, country.region());
+                });
+
+        jdbcTemplate.batchUpdate("MERGE INTO holiday_type (code) KEY (code) VALUES (?)",
+                snapshot.holidayTypes(), BATCH_SIZE, (ps, type) -> ps.setString(1, type));
+
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO holiday (id, country_code, holiday_date, holiday_year, local_name, name, type_code,
+                                             is_fixed, is_global, launch_year, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+                        """,
+                snapshot.holidays(), BATCH_SIZE, (ps, holiday) -> {
+                    ps.setLong(1, holiday.id());
+                    ps.setString(2, holiday.countryCode());
+                    ps.setDate(3, Date.valueOf(holiday.date()));
+                    ps.setInt(4, holiday.date().getYear());
+                    ps.setString(5, holiday.localName());
+                    ps.setString(6, holiday.name());
+                    ps.setString(7, holiday.typeCode());
+                    ps.setBoolean(8, holiday.fixed());
+                    ps.setBoolean(9, holiday.global());
+                    if (holiday.launchYear() == null) {
+                        ps.setNull(10, Types.INTEGER);
+                    } else {
+                        ps.setInt(10, holiday.launchYear());
+                    }
+                });
+
+        restartHolidaySequence(snapshot);
+        referenceDataCache.reloadAfterCommit();
+        // DB 가 캐시된 응답이 아니라 스냅샷 내용이 되었으므로 applied 로 건너뛰지 않게
+        responseCache.markAllStale();
+        eventPublisher.publishEvent(HolidayDataChangedEvent.all());
+
+        log.info("[DataSnapshotService] 스냅샷 적재 - createdAt={}, countries={}, holidayTypes={}, holidays={}",
+                snapshot.createdAt(), snapshot.countries().size(), snapshot.holidayTypes().size(),
+                snapshot.holidays().size());
+        return snapshot;
+    }
+
+    // pooled 시퀀스는 값 하나로 allocationSize 개의 id 를 쓰므로, 한 블록을 더 띄워 적재한 id 와 겹치지 않게
+    private void restartHolidaySequence(DataSnapshot snapshot) {
+        long maxId = snapshot.holidays().stream().mapToLong(HolidayRow::id).max().orElse(0);
+        // 시퀀스는 롤백되지 않고 이미 받아 간 id 구간이 있을 수 있으므로 앞으로만 옮긴다
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR holiday_seq", Long.class);
+        long restartWith = Math.max(maxId + HOLIDAY_SEQ_ALLOCATION + 1, next == null ? 0 : next);
+        jdbcTemplate.execute("ALTER SEQUENCE holiday_seq RESTART WITH " + restartWith);
+    }
+
+    private static HolidayRow toRow(HolidayResponse holiday) {
+        return new HolidayRow(
+                holiday.id(),
+                holiday.countryCode(),
+                holiday.date(),
+                holiday.localName(),
+                holiday.name(),
+                holiday.typeCode(),
+                holiday.fixed(),
+                holiday.global(),
+                holiday.launchYear()
+        );
+    }
+}
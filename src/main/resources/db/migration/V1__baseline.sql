@@ -0,0 +1,53 @@
+-- 기존 ddl-auto: update 가 만들던 스키마 (엔티티 매핑과 동일해야 ddl-auto: validate 를 통과)
+
+create sequence holiday_seq start with 1 increment by 50;
+
+create sequence sync_checkpoint_seq start with 1 increment by 50;
+
+create table country (
+    code       varchar(2)   not null,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    region     varchar(64),
+    name       varchar(128) not null,
+    primary key (code)
+);
+
+create table holiday_type (
+    code varchar(32) not null,
+    primary key (code)
+);
+
+create table holiday (
+    country_code varchar(2)   not null,
+    holiday_date date         not null,
+    holiday_year integer      not null,
+    is_fixed     boolean      not null,
+    is_global    boolean      not null,
+    launch_year  integer,
+    created_at   timestamp(6),
+    id           bigint       not null,
+    updated_at   timestamp(6),
+    type_code    varchar(32),
+    local_name   varchar(128) not null,
+    name         varchar(128) not null,
+    primary key (id),
+    constraint uk_holiday_country_date_localname unique (country_code, holiday_date, local_name),
+    constraint fk_holiday_country foreign key (country_code) references country (code),
+    constraint fk_holiday_type foreign key (type_code) references holiday_type (code)
+);
+
+create table sync_checkpoint (
+    attempt      integer                          not null,
+    country_code varchar(2)                       not null,
+    holiday_year integer                          not null,
+    created_at   timestamp(6),
+    id           bigint                           not null,
+    updated_at   timestamp(6),
+    job_name     varchar(64)                      not null,
+    last_error   varchar(1000),
+    job_type     enum ('INITIAL_LOAD', 'RESYNC')  not null,
+    status       enum ('DONE', 'FAILED', 'PENDING') not null,
+    primary key (id),
+    constraint uk_sync_checkpoint_job_year_country unique (job_name, holiday_year, country_code)
+);
@@ -0,0 +1,21 @@
+-- 검색 / 동기화 조회 경로별 인덱스. 모두 (holiday_date, id) 정렬 순서를 끝에 두어 정렬 없이 읽고,
+-- 커서 페이징의 (date, id) 범위 조건도 같은 인덱스로 처리한다.
+-- (country_code, holiday_date, ...) 는 유니크 키 uk_holiday_country_date_localname 이 담당
+-- FK(fk_holiday_country / fk_holiday_type)와 그 단일 컬럼 인덱스는 그대로 둔다. 국가만 / 타입만 조건이면
+-- 옵티마이저가 FK 인덱스를 고를 수 있는데, 이 경우도 조건으로 찾은 한 국가 / 타입 분량만 정렬하므로
+-- 계획을 강제하지 않는다 (전체 스캔으로 빠지지 않는지는 HolidayQueryPlanTest 가 EXPLAIN 으로 확인)
+
+-- 국가 + 연도: 검색(countryCode + year), 재동기화 조회 / 삭제, 영업일 비트맵(global 공휴일)
+create index idx_holiday_country_year_date on holiday (country_code, holiday_year, holiday_date, id);
+
+-- 연도만 / 연도 + 기간
+create index idx_holiday_year_date on holiday (holiday_year, holiday_date, id);
+
+-- 기간만, 조건 없는 정렬 / 커서 페이징
+create index idx_holiday_date on holiday (holiday_date, id);
+
+-- 타입 (+ 연도 / 기간)
+create index idx_holiday_type_year_date on holiday (type_code, holiday_year, holiday_date, id);
+
+-- 재개할 동기화 작업 조회 (status <> DONE)
+create index idx_sync_checkpoint_status on sync_checkpoint (status, job_name);
@@ -0,0 +1,144 @@
+package com.example.holiday.benchmark;
+
+import com.example.holiday.dto.response.NagerCountryResponse;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.repository.CountryRepository;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.repository.HolidayTypeRepository;
+import com.example.holiday.repository.SyncCheckpointRepository;
+import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.NagerClient;
+import com.example.holiday.service.ReferenceDataCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 초기 적재(2020~2025 전체) 쓰기 경로 처리량 측정.
+ * - 외부 API는 Mocking: 110개 국가 × 연도별 15건 (실제 Nager 데이터와 비슷한 규모)
+ * - 워밍업 후 여러 번 반복해 회차별 rows/sec 와 Hibernate가 준비한 JDBC statement 수를 출력
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HolidayBulkInsertBenchmark {
+
+    private static final int COUNTRY_COUNT = 110;
+    private static final int HOLIDAYS_PER_YEAR = 15;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 3;
+
+    @Autowired
+    HolidayService holidayService;
+
+    @Autowired
+    HolidayRepository holidayRepository;
+
+    @Autowired
+    CountryRepository countryRepository;
+
+    @Autowired
+    HolidayTypeRepository holidayTypeRepository;
+
+    @Autowired
+    ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    SyncCheckpointRepository syncCheckpointRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("initialLoadIfEmpty 전체 데이터셋 적재 rows/sec")
+    void 초기_적재_처리량() {
+        // given
+        List<NagerCountryResponse> countries = IntStream.range(0, COUNTRY_COUNT)
+                .mapToObj(i -> new NagerCountryResponse(countryCode(i), "Country " + i))
+                .toList();
+        given(nagerClient.getAvailableCountries()).willReturn(countries);
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> PublicHolidays.uncached(holidays(
+                        invocation.getArgument(0, Integer.class),
+                        invocation.getArgument(1, String.class))));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            clear();
+            statistics.clear();
+
+            // when
+            long started = System.nanoTime();
+            holidayService.initialLoadIfEmpty();
+            long elapsedNanos = System.nanoTime() - started;
+
+            // then
+            long rows = holidayRepository.count();
+            assertThat(rows).isEqualTo((long) COUNTRY_COUNT * 6 * HOLIDAYS_PER_YEAR);
+
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            System.out.printf("[benchmark] %s #%d initialLoadIfEmpty rows=%d elapsed=%.3fs rows/sec=%.0f "
+                            + "preparedStatements=%d entityInserts=%d%n",
+                    i < WARMUP_ITERATIONS ? "warmup" : "measure", i + 1,
+                    rows, seconds, rows / seconds,
+                    statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+        }
+    }
+
+    private void clear() {
+        syncCheckpointRepository.deleteAllInBatch();
+        holidayRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        holidayTypeRepository.deleteAllInBatch();
+        referenceDataCache.reload();
+    }
+
+    private static String countryCode(int i) {
+        return "" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+    }
+
+    private static List<NagerHolidayResponse> holidays(int year, String countryCode) {
+        List<NagerHolidayResponse> result = new ArrayList<>();
+        for (int i = 0; i < HOLIDAYS_PER_YEAR; i++) {
+            result.add(new NagerHolidayResponse(
+                    LocalDate.of(year, 1 + i % 12, 1 + i),
+                    "Holiday " + i,
+                    "Holiday " + i,
+                    countryCode,
+                    i % 2 == 0,
+                    true,
+                    null,
+                    List.of(i % 3 == 0 ? "Public" : "Bank")
+            ));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.holiday.calendar;
+
+import com.example.holiday.dto.response.NagerCountryResponse;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.NagerClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * BusinessDayCalendar 통합 테스트.
+ * - 연도마다 KR 전국 공휴일(1/1, 3/1, 3/3, 12/25) + 지역 공휴일(5/5) + 기념일 타입(5/8) 적재
+ */
+@SpringBootTest
+@Transactional
+class BusinessDayCalendarTest {
+
+    @Autowired
+    BusinessDayCalendar calendar;
+
+    @Autowired
+    BulkHolidayChecker bulkHolidayChecker;
+
+    @Autowired
+    HolidayService holidayService;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @BeforeEach
+    void setUp() {
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 1), "삼일절", "Independence Movement Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 3), "대체공휴일", "Substitute Holiday",
+                                    "KR", false, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 5, 5), "지역 휴일", "Regional Day",
+                                    "KR", true, false, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 5, 8), "어버이날", "Parents' Day",
+                                    "KR", true, true, null, List.of("Observance")),
+                            new NagerHolidayResponse(LocalDate.of(year, 12, 25), "성탄절", "Christmas Day",
+                                    "KR", true, true, null, List.of("Public"))
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+    }
+
+    @Test
+    @DisplayName("전국 Public 공휴일만 쉬는 날로 보고, 주말과 합쳐 영업일을 판단한다")
+    void 공휴일_영업일_여부() {
+        assertThat(calendar.isHoliday("KR", LocalDate.of(2025, 1, 1))).isTrue();
+        assertThat(calendar.isBusinessDay("KR", LocalDate.of(2025, 1, 1))).isFalse();
+
+        // 지역 공휴일 / Observance 타입은 영업일 (둘 다 평일)
+        assertThat(calendar.isHoliday("KR", LocalDate.of(2025, 5, 5))).isFalse();
+        assertThat(calendar.isBusinessDay("KR", LocalDate.of(2025, 5, 5))).isTrue();
+        assertThat(calendar.isBusinessDay("KR", LocalDate.of(2025, 5, 8))).isTrue();
+
+        // 토요일
+        assertThat(calendar.isHoliday("KR", LocalDate.of(2025, 1, 4))).isFalse();
+        assertThat(calendar.isBusinessDay("KR", LocalDate.of(2025, 1, 4))).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음/이전 영업일, 영업일 더하기, 영업일 수를 계산한다 (연도 경계 포함)")
+    void 영업일_계산() {
+        // 2025-01-01(수) 공휴일 → 2024-12-31(화) 다음 영업일은 2025-01-02
+        assertThat(calendar.nextBusinessDay("KR", LocalDate.of(2024, 12, 31))).isEqualTo(LocalDate.of(2025, 1, 2));
+        assertThat(calendar.previousBusinessDay("KR", LocalDate.of(2025, 1, 2))).isEqualTo(LocalDate.of(2024, 12, 31));
+
+        // 2025-02-28(금) + 1: 3/1 토, 3/2 일, 3/3 월 대체공휴일 → 3/4(화)
+        assertThat(calendar.addBusinessDays("KR", LocalDate.of(2025, 2, 28), 1)).isEqualTo(LocalDate.of(2025, 3, 4));
+        assertThat(calendar.addBusinessDays("KR", LocalDate.of(2025, 3, 4), -1)).isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(calendar.addBusinessDays("KR", LocalDate.of(2025, 3, 1), 0)).isEqualTo(LocalDate.of(2025, 3, 1));
+
+        // 2025년 1월: 평일 23일 - 1/1 = 22
+        assertThat(calendar.countBusinessDays("KR", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("비트 연산 결과가 하루씩 세는 방식과 같다 (2020 ~ 2025 전체)")
+    void 하루씩_센_결과와_비교() {
+        LocalDate start = LocalDate.of(2020, 1, 1);
+        LocalDate end = LocalDate.of(2025, 12, 31);
+
+        List<LocalDate> businessDays = new ArrayList<>();
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            if (calendar.isBusinessDay("KR", d)) {
+                businessDays.add(d);
+            }
+        }
+
+        assertThat(calendar.countBusinessDays("KR", start, end)).isEqualTo(businessDays.size());
+        // 2020-01-01 은 공휴일이므로 n 번째 영업일 = businessDays[n - 1]
+        for (int n = 1; n <= businessDays.size(); n += 37) {
+            assertThat(calendar.addBusinessDays("KR", start, n)).isEqualTo(businessDays.get(n - 1));
+        }
+        LocalDate last = businessDays.getLast();
+        for (int n = 1; n < businessDays.size(); n += 41) {
+            assertThat(calendar.addBusinessDays("KR", last, -n)).isEqualTo(businessDays.get(businessDays.size() - 1 - n));
+        }
+    }
+
+    @Test
+    @DisplayName("대량 확인: 요청 순서대로 공휴일 / 영업일 여부를 반환한다")
+    void 대량_확인() throws IOException {
+        String body = """
+                [{"countryCode":"KR","date":"2025-01-01"},
+                 {"countryCode":"kr","date":"2025-01-02","memo":{"ignored":[1,2]}},
+                 {"countryCode":"KR","date":"2024-12-25"},
+                 {"countryCode":"KR","date":"2025-05-05"}]
+                """;
+
+        BulkHolidayChecker.Result result = bulkHolidayChecker.check(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.writeTo(out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "[{\"holiday\":true,\"businessDay\":false},"
+                        + "{\"holiday\":false,\"businessDay\":true},"
+                        + "{\"holiday\":true,\"businessDay\":false},"
+                        + "{\"holiday\":false,\"businessDay\":true}]");
+
+        assertThatThrownBy(() -> bulkHolidayChecker.check(
+                new ByteArrayInputStream("{\"countryCode\":\"KR\"}".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("지원 연도 범위를 벗어나거나 모르는 국가면 IllegalArgumentException")
+    void 잘못된_요청() {
+        assertThatThrownBy(() -> calendar.isHoliday("KR", LocalDate.of(2019, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calendar.nextBusinessDay("KR", LocalDate.of(2025, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> calendar.isHoliday("ZZ", LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.holiday.controller;
+
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.dto.response.NagerCountryResponse;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.search.HolidaySnapshotEngine;
+import com.example.holiday.search.VersionedPage;
+import com.example.holiday.service.HolidayDataVersion;
+import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.NagerClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 검색 API ETag / 304 테스트.
+ * 변경 커밋 이후 버전이 바뀌는 것까지 확인하므로 테스트 트랜잭션 없이, 다른 테스트와 공유하지 않는 별도 DB 를 쓴다.
+ * 메모리 스냅샷은 교체 시점을 정할 수 있도록 Mock 으로 대신한다 (기본은 empty = 결과 캐시 / DB 검색).
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:holiday-etag;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@AutoConfigureMockMvc
+class HolidayControllerEtagTest {
+
+    private static final String KR_2025 = "/api/holidays?year=2025&countryCode=KR";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    HolidayService holidayService;
+
+    @Autowired
+    HolidayDataVersion dataVersion;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @MockBean
+    HolidaySnapshotEngine snapshotEngine;
+
+    @BeforeEach
+    void setUp() {
+        given(nagerClient.getAvailableCountries())
+                .willReturn(List.of(new NagerCountryResponse("KR", "Korea (Republic of)")));
+        given(nagerClient.getPublicHolidays(2025, "KR")).willReturn(PublicHolidays.uncached(List.of(
+                new NagerHolidayResponse(LocalDate.of(2025, 1, 1), "새해", "New Year's Day", "KR",
+                        true, true, null, List.of("Public")))));
+        holidayService.refresh(2025, "KR");
+    }
+
+    @Test
+    @DisplayName("응답 ETag 로 다시 요청하면 304, 데이터 변경이 커밋되면 새 ETag 로 200")
+    void 같은_ETag_는_304_변경되면_200() throws Exception {
+        String etag = mockMvc.perform(get(KR_2025))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo(dataVersion.etag());
+
+        mockMvc.perform(get(KR_2025).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // when: 삭제 커밋
+        holidayService.deleteYearCountry(2025, "KR");
+
+        // then
+        String changed = mockMvc.perform(get(KR_2025).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag).isEqualTo(dataVersion.etag());
+    }
+
+    @Test
+    @DisplayName("교체 전 스냅샷이 응답하면 그 스냅샷의 버전이 ETag 가 되어, 스냅샷이 교체되면 그 ETag 로는 304 가 나지 않는다")
+    void 오래된_스냅샷은_자기_버전으로_응답() throws Exception {
+        // given: 마지막 변경 이전에 만들어진 스냅샷
+        long staleVersion = dataVersion.current() - 1;
+        given(snapshotEngine.search(any(), any())).willReturn(Optional.of(snapshotPage("옛 이름", staleVersion)));
+
+        // when
+        String staleEtag = mockMvc.perform(get(KR_2025))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].localName").value("옛 이름"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // then: 현재 버전이 아니라 스냅샷 버전 (같은 스냅샷이 응답하는 동안은 그 ETag 로 304)
+        assertThat(staleEtag).isEqualTo(HolidayDataVersion.etagOf(staleVersion)).isNotEqualTo(dataVersion.etag());
+        mockMvc.perform(get(KR_2025).header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isNotModified());
+
+        // 스냅샷이 교체되면 이전 ETag 는 더 이상 맞지 않아 새 내용을 받는다
+        given(snapshotEngine.search(any(), any()))
+                .willReturn(Optional.of(snapshotPage("새해", dataVersion.current())));
+        mockMvc.perform(get(KR_2025).header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, dataVersion.etag()))
+                .andExpect(jsonPath("$.content[0].localName").value("새해"));
+        mockMvc.perform(get(KR_2025).header(HttpHeaders.IF_NONE_MATCH, dataVersion.etag()))
+                .andExpect(status().isNotModified());
+    }
+
+    private static VersionedPage snapshotPage(String localName, long version) {
+        HolidayResponse holiday = new HolidayResponse(1L, "KR", "Korea (Republic of)", LocalDate.of(2025, 1, 1), 2025,
+                localName, "New Year's Day", "Public", true, true, null);
+        return new VersionedPage(new PageImpl<>(List.of(holiday), PageRequest.of(0, 20), 1), version);
+    }
+}
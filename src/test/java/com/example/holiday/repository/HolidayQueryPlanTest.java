@@ -0,0 +1,175 @@
+package com.example.holiday.repository;
+
+import com.example.holiday.dto.request.HolidayCursor;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.NagerCountryResponse;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.NagerClient;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * holiday 조회 쿼리 실행 계획 회귀 테스트.
+ * Hibernate 가 실제로 만든 SQL 을 StatementInspector 로 모아 H2 EXPLAIN 으로 확인하고,
+ * 조건이 하나라도 있는 조회가 holiday 테이블 전체 스캔(tableScan)으로 빠지면 실패한다.
+ * H2 의 ANALYZE 는 트랜잭션을 커밋하므로 다른 테스트와 공유하지 않는 별도 DB 를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:holiday-plan;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.holiday.repository.HolidayQueryPlanTest$SqlCapture"
+})
+@Transactional
+class HolidayQueryPlanTest {
+
+    // H2 EXPLAIN: FROM "PUBLIC"."HOLIDAY" "H1_0" /* PUBLIC.IDX_...: 조건 */
+    private static final Pattern HOLIDAY_ACCESS =
+            Pattern.compile("\"PUBLIC\"\\.\"HOLIDAY\"(?: \"?\\w+\"?)?\\s*/\\*\\s*([^*]*)\\*/");
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 9, 30);
+
+    @Autowired
+    HolidayRepository holidayRepository;
+
+    @Autowired
+    HolidayService holidayService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @BeforeEach
+    void setUp() {
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)"),
+                new NagerCountryResponse("US", "United States"),
+                new NagerCountryResponse("JP", "Japan")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    String countryCode = invocation.getArgument(1, String.class);
+                    List<NagerHolidayResponse> holidays = new ArrayList<>();
+                    for (int month = 1; month <= 12; month++) {
+                        holidays.add(new NagerHolidayResponse(LocalDate.of(year, month, 10), "휴일 " + month,
+                                "Holiday " + month, countryCode, true, month % 3 != 0, null,
+                                List.of(month % 2 == 0 ? "Public" : "Bank")));
+                    }
+                    return PublicHolidays.uncached(holidays);
+                });
+        holidayService.initialLoadIfEmpty();
+        holidayRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+        SqlCapture.statements.clear();
+    }
+
+    @Test
+    @DisplayName("검색 / 커서 / 건수: 모든 조건 조합이 인덱스를 사용한다")
+    void 검색_조건_조합별_실행_계획() {
+        // year, countryCode, 기간, typeCode 의 모든 조합 (조건 없음 제외: 전체 조회는 스캔이 정상)
+        for (int mask = 1; mask < 16; mask++) {
+            HolidaySearchCondition condition = new HolidaySearchCondition(
+                    (mask & 1) != 0 ? 2024 : null,
+                    (mask & 2) != 0 ? "KR" : null,
+                    (mask & 4) != 0 ? FROM : null,
+                    (mask & 4) != 0 ? TO : null,
+                    (mask & 8) != 0 ? "Public" : null);
+
+            assertIndexed(condition + " search", () -> holidayRepository.search(condition.year(),
+                    condition.countryCode(), condition.from(), condition.to(), condition.typeCode(),
+                    PageRequest.of(1, 5)));
+            assertIndexed(condition + " searchResponses", () -> holidayRepository.searchResponses(condition,
+                    PageRequest.of(1, 5)));
+            assertIndexed(condition + " searchAfter", () -> holidayRepository.searchAfter(condition,
+                    new HolidayCursor(LocalDate.of(2024, 2, 10), 0L), 5));
+            assertIndexed(condition + " count", () -> holidayRepository.count(condition));
+            assertIndexed(condition + " findResponses", () -> holidayRepository.findResponses(condition));
+        }
+    }
+
+    @Test
+    @DisplayName("동기화 / 영업일 조회 경로가 인덱스를 사용한다")
+    void 동기화_조회_실행_계획() {
+        assertIndexed("findByCountryCodeAndYear", () -> holidayRepository.findByCountryCodeAndYear("KR", 2024));
+        assertIndexed("deleteByCountryCodeAndYear", () -> holidayRepository.deleteByCountryCodeAndYear("JP", 2021));
+        assertIndexed("findGlobalHolidayDates", () -> holidayRepository.findGlobalHolidayDates(
+                List.of("KR", "US"), List.of(2024), List.of("Public")));
+        assertIndexed("findGlobalHolidayDates (all types)", () -> holidayRepository.findGlobalHolidayDates(
+                List.of("KR"), List.of(2023, 2024), List.of()));
+    }
+
+    @Test
+    @DisplayName("조회 인덱스를 추가해도 holiday 의 FK 는 유지된다")
+    void 외래_키_유지() {
+        List<String> foreignKeys = jdbcTemplate.queryForList("""
+                select constraint_name from information_schema.table_constraints
+                where table_name = 'HOLIDAY' and constraint_type = 'FOREIGN KEY'
+                """, String.class);
+        assertThat(foreignKeys).containsExactlyInAnyOrder("FK_HOLIDAY_COUNTRY", "FK_HOLIDAY_TYPE");
+    }
+
+    private void assertIndexed(String description, Runnable query) {
+        SqlCapture.statements.clear();
+        query.run();
+        List<String> holidayQueries = SqlCapture.statements.stream()
+                .map(String::strip)
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6)
+                        || sql.regionMatches(true, 0, "delete", 0, 6))
+                .filter(sql -> sql.toLowerCase().contains(" holiday "))
+                .toList();
+        assertThat(holidayQueries).as(description).isNotEmpty();
+
+        for (String sql : holidayQueries) {
+            String plan = explain(sql);
+            Matcher access = HOLIDAY_ACCESS.matcher(plan);
+            assertThat(access.find()).as("%s%n%s", description, plan).isTrue();
+            // tableScan 이거나, 인덱스를 조건 없이 처음부터 끝까지 읽는 경우(": 조건" 없음)는 전체 스캔
+            assertThat(access.group(1))
+                    .as("%s%n%s", description, plan)
+                    .doesNotContain("tableScan")
+                    .contains(":");
+        }
+    }
+
+    private String explain(String sql) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        return rows.isEmpty() ? "" : String.valueOf(rows.getFirst().values().iterator().next());
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.holiday.repository;
+
+import com.example.holiday.service.NagerClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CountryRepository / HolidayTypeRepository.insertIfAbsent 테스트.
+ * 트랜잭션 두 개를 실제로 겹쳐 실행해야 하므로 테스트 트랜잭션 없이, 다른 테스트와 공유하지 않는 별도 DB 를 쓴다.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:holiday-reference;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+class ReferenceDataRepositoryTest {
+
+    @Autowired
+    CountryRepository countryRepository;
+
+    @Autowired
+    HolidayTypeRepository holidayTypeRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from country where code in ('QA', 'QB')");
+        jdbcTemplate.update("delete from holiday_type where code = 'QType'");
+    }
+
+    @Test
+    @DisplayName("이미 있는 행은 name / created_at / updated_at 을 바꾸지 않고 0 을 반환한다")
+    void 기존_행은_그대로() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        jdbcTemplate.update("insert into country (code, name, created_at, updated_at) values ('QA', '기존 이름', ?, ?)",
+                createdAt, createdAt);
+        jdbcTemplate.update("insert into holiday_type (code) values ('QType')");
+
+        // when
+        int countryInserted = countryRepository.insertIfAbsent("QA", "새 이름");
+        int typeInserted = holidayTypeRepository.insertIfAbsent("QType");
+
+        // then
+        assertThat(countryInserted).isZero();
+        assertThat(typeInserted).isZero();
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select name, created_at, updated_at from country where code = 'QA'");
+        assertThat(row.get("NAME")).isEqualTo("기존 이름");
+        assertThat(((Timestamp) row.get("CREATED_AT")).toLocalDateTime()).isEqualTo(createdAt);
+        assertThat(((Timestamp) row.get("UPDATED_AT")).toLocalDateTime()).isEqualTo(createdAt);
+        assertThat(countryRepository.insertIfAbsent("QB", "신규")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 코드를 동시에 만들면 뒤 트랜잭션은 앞 트랜잭션의 커밋을 기다렸다가 오류 없이 0 을 반환한다")
+    void 동시_생성() throws Exception {
+        // given: 앞 트랜잭션이 행을 넣고 커밋하지 않은 상태로 대기
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            int inserted = countryRepository.insertIfAbsent("QA", "먼저")
+                    + holidayTypeRepository.insertIfAbsent("QType");
+            firstInserted.countDown();
+            await(commitFirst);
+            return inserted;
+        }));
+        assertThat(firstInserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 뒤 트랜잭션이 같은 코드로 생성 (앞 트랜잭션의 행 잠금에서 대기)
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                countryRepository.insertIfAbsent("QA", "나중")
+                        + holidayTypeRepository.insertIfAbsent("QType")));
+        Thread.sleep(Duration.ofMillis(200));
+        commitFirst.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select name from country where code = 'QA'", String.class))
+                .isEqualTo("먼저");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from holiday_type where code = 'QType'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.service.HolidayDataVersion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HolidaySearchCache 단위 테스트 (트랜잭션 밖 조회 = 커밋된 데이터 조회).
+ */
+class HolidaySearchCacheTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private static final HolidaySearchCondition KR_2025 = condition(2025, "KR", null, null, null);
+    private static final HolidaySearchCondition KR_2024 = condition(2024, "KR", null, null, null);
+    private static final HolidaySearchCondition JP_2025 = condition(2025, "JP", null, null, null);
+    private static final HolidaySearchCondition ALL_2025_PUBLIC = condition(2025, null, null, null, "Public");
+    private static final HolidaySearchCondition NO_FILTER = condition(null, null, null, null, null);
+    private static final HolidaySearchCondition RANGE_2024_2025 =
+            condition(null, null, LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 31), null);
+    private static final HolidaySearchCondition RANGE_2023 =
+            condition(null, "KR", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31), null);
+
+    private HolidayDataVersion dataVersion;
+    private HolidaySearchCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = new HolidayDataVersion();
+        cache = new HolidaySearchCache(new SimpleMeterRegistry(), dataVersion, true, 100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 조건·페이지는 다시 조회하지 않고, 국가 코드는 대소문자 구분 없이 같은 키")
+    void 같은_검색은_캐시에서_응답() {
+        search(KR_2025);
+        search(condition(2025, "kr", null, null, null));
+        search(KR_2025, PageRequest.of(1, 20));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("(KR, 2025) 변경은 그 국가·연도를 포함할 수 있는 항목만 버린다")
+    void 국가_연도_단위_무효화() {
+        List<HolidaySearchCondition> all = List.of(KR_2025, KR_2024, JP_2025, ALL_2025_PUBLIC, NO_FILTER,
+                RANGE_2024_2025, RANGE_2023);
+        all.forEach(this::search);
+
+        cache.onHolidayDataChanged(new HolidayDataChangedEvent("KR", 2025));
+
+        assertThat(cached()).containsExactlyInAnyOrder(KR_2024, JP_2025, RANGE_2023);
+    }
+
+    @Test
+    @DisplayName("국가 전체 / 전체 데이터 변경")
+    void 넓은_범위_무효화() {
+        List.of(KR_2025, KR_2024, JP_2025, RANGE_2023).forEach(this::search);
+
+        cache.onHolidayDataChanged(new HolidayDataChangedEvent("KR", null));
+        assertThat(cached()).containsExactly(JP_2025);
+
+        cache.onHolidayDataChanged(HolidayDataChangedEvent.all());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 변경이 커밋되면 그 결과는 보관하지 않는다")
+    void 조회_중_무효화된_결과는_보관x() {
+        cache.load(KR_2025, PAGE, () -> {
+            cache.onHolidayDataChanged(new HolidayDataChangedEvent("JP", 2020));
+            return page();
+        });
+
+        assertThat(cache.find(KR_2025, PAGE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("항목은 보관할 때 읽은 데이터 버전으로 응답한다 (무효화 전에 현재 버전이 먼저 올라가도 새 버전을 붙이지 않음)")
+    void 항목별_데이터_버전() {
+        long loadedVersion = dataVersion.current();
+        search(KR_2025);
+        search(JP_2025);
+
+        // 버전 리스너가 캐시 무효화보다 먼저 실행된 순간
+        HolidayDataChangedEvent event = new HolidayDataChangedEvent("KR", 2025);
+        dataVersion.onHolidayDataChanged(event);
+        assertThat(cache.find(KR_2025, PAGE)).get().extracting(VersionedPage::version).isEqualTo(loadedVersion);
+
+        // 무효화 후: 영향받지 않은 항목은 자기 버전 유지, 다시 조회한 항목은 새 버전
+        cache.onHolidayDataChanged(event);
+        assertThat(cache.find(JP_2025, PAGE)).get().extracting(VersionedPage::version).isEqualTo(loadedVersion);
+        assertThat(cache.load(KR_2025, PAGE, HolidaySearchCacheTest::page).version()).isEqualTo(dataVersion.current());
+    }
+
+    @Test
+    @DisplayName("비활성화하면 보관하지 않는다")
+    void 비활성화() {
+        cache = new HolidaySearchCache(new SimpleMeterRegistry(), dataVersion, false, 100, Duration.ofMinutes(10));
+
+        search(KR_2025);
+        search(KR_2025);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private void search(HolidaySearchCondition condition) {
+        search(condition, PAGE);
+    }
+
+    private void search(HolidaySearchCondition condition, Pageable pageable) {
+        if (cache.find(condition, pageable).isEmpty()) {
+            cache.load(condition, pageable, () -> {
+                loads.incrementAndGet();
+                return page();
+            });
+        }
+    }
+
+    private List<HolidaySearchCondition> cached() {
+        return cache.hottest(100).keySet().stream()
+                .map(HolidaySearchCache.SearchKey::condition)
+                .toList();
+    }
+
+    private static Page<HolidayResponse> page() {
+        return new PageImpl<>(List.of(), PAGE, 0);
+    }
+
+    private static HolidaySearchCondition condition(Integer year, String countryCode, LocalDate from, LocalDate to,
+                                                    String typeCode) {
+        return new HolidaySearchCondition(year, countryCode, from, to, typeCode).normalized();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.holiday.search;
+
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.event.HolidayDataChangedEvent;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.service.HolidayDataVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * HolidaySnapshotEngine 단위 테스트 (재구성은 rebuild() 를 직접 호출).
+ */
+class HolidaySnapshotEngineTest {
+
+    private static final HolidaySearchCondition KR_2025 = new HolidaySearchCondition(2025, "KR", null, null, null);
+
+    @Test
+    @DisplayName("스냅샷은 만들기 전에 읽은 데이터 버전으로 응답하고, 교체 전에는 현재 버전이 올라가도 그 버전을 유지한다")
+    void 스냅샷_데이터_버전() {
+        HolidayRepository holidayRepository = mock(HolidayRepository.class);
+        HolidayDataVersion dataVersion = new HolidayDataVersion();
+        given(holidayRepository.findAllResponses()).willReturn(List.of(new HolidayResponse(1L, "KR", "South Korea",
+                LocalDate.of(2025, 1, 1), 2025, "새해", "New Year's Day", "Public", true, true, null)));
+        HolidaySnapshotEngine engine = new HolidaySnapshotEngine(holidayRepository, dataVersion, false);
+        assertThat(engine.search(KR_2025, PageRequest.of(0, 20))).isEmpty();
+
+        long builtVersion = dataVersion.current();
+        engine.rebuild();
+        dataVersion.onHolidayDataChanged(new HolidayDataChangedEvent("KR", 2025));
+
+        VersionedPage stale = engine.search(KR_2025, PageRequest.of(0, 20)).orElseThrow();
+        assertThat(stale.version()).isEqualTo(builtVersion).isLessThan(dataVersion.current());
+        assertThat(stale.page().getTotalElements()).isEqualTo(1);
+
+        engine.rebuild();
+        assertThat(engine.search(KR_2025, PageRequest.of(0, 20)).orElseThrow().version())
+                .isEqualTo(dataVersion.current());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.holiday.service;
+
+import com.example.holiday.dto.response.CountryYearHolidays;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * HolidayFetcher 단위 테스트 (NagerClient 는 스텁).
+ */
+class HolidayFetcherTest {
+
+    private NagerClient nagerClient;
+
+    @BeforeEach
+    void setUp() {
+        nagerClient = mock(NagerClient.class);
+    }
+
+    @Test
+    @DisplayName("동시에 나가는 요청 수는 fetch-concurrency 를 넘지 않고, 조회는 BATCH lane 에서 실행된다")
+    void 동시_요청_수_제한() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<NagerLane> lanes = new CopyOnWriteArrayList<>();
+        given(nagerClient.getPublicHolidays(anyInt(), anyString())).willAnswer(invocation -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            lanes.add(NagerLane.current());
+            try {
+                Thread.sleep(30);
+            } finally {
+                active.decrementAndGet();
+            }
+            return PublicHolidays.uncached(List.of(holiday(invocation.getArgument(0), invocation.getArgument(1))));
+        });
+        List<SyncUnit> units = IntStream.range(0, 12).mapToObj(i -> new SyncUnit(2025, "C" + i)).toList();
+        List<CountryYearHolidays> fetched = new ArrayList<>();
+
+        new HolidayFetcher(nagerClient, 3).fetchAll(units, fetched::add,
+                (unit, error) -> { throw error; });
+
+        assertThat(maxActive.get()).isEqualTo(3);
+        assertThat(fetched).extracting(CountryYearHolidays::countryCode)
+                .containsExactlyInAnyOrderElementsOf(units.stream().map(SyncUnit::countryCode).toList());
+        assertThat(lanes).hasSize(12).containsOnly(NagerLane.BATCH);
+    }
+
+    @Test
+    @DisplayName("한 단위가 실패해도 나머지 단위는 모두 전달되고, 실패한 단위는 onFailed 로 한 번만 전달된다")
+    void 단위별_실패_격리() {
+        RuntimeException failure = new IllegalStateException("외부 API 오류");
+        given(nagerClient.getPublicHolidays(anyInt(), anyString())).willAnswer(invocation -> {
+            String countryCode = invocation.getArgument(1);
+            if (countryCode.equals("JP")) {
+                throw failure;
+            }
+            return PublicHolidays.uncached(List.of(holiday(invocation.getArgument(0), countryCode)));
+        });
+        List<SyncUnit> units = List.of(new SyncUnit(2024, "KR"), new SyncUnit(2024, "JP"),
+                new SyncUnit(2025, "KR"), new SyncUnit(2025, "US"));
+        List<SyncUnit> succeeded = new ArrayList<>();
+        Map<SyncUnit, RuntimeException> failed = new ConcurrentHashMap<>();
+
+        new HolidayFetcher(nagerClient, 2).fetchAll(units,
+                result -> succeeded.add(new SyncUnit(result.year(), result.countryCode())),
+                failed::put);
+
+        assertThat(succeeded).containsExactlyInAnyOrder(new SyncUnit(2024, "KR"), new SyncUnit(2025, "KR"),
+                new SyncUnit(2025, "US"));
+        assertThat(failed).containsExactly(Map.entry(new SyncUnit(2024, "JP"), failure));
+    }
+
+    @Test
+    @DisplayName("결과는 요청 순서가 아니라 도착 순서대로, 호출 스레드에서 콜백으로 전달된다")
+    void 도착_순서대로_호출_스레드에서_전달() {
+        // given: 먼저 요청한 KR 은 US 결과가 콜백으로 전달된 뒤에야 응답
+        CountDownLatch usDelivered = new CountDownLatch(1);
+        given(nagerClient.getPublicHolidays(anyInt(), anyString())).willAnswer(invocation -> {
+            String countryCode = invocation.getArgument(1);
+            if (countryCode.equals("KR")) {
+                assertThat(usDelivered.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+            return PublicHolidays.uncached(List.of(holiday(invocation.getArgument(0), countryCode)));
+        });
+        Thread caller = Thread.currentThread();
+        List<String> order = new ArrayList<>();
+        List<Thread> callbackThreads = new ArrayList<>();
+
+        // when
+        new HolidayFetcher(nagerClient, 2).fetchAll(List.of(new SyncUnit(2025, "KR"), new SyncUnit(2025, "US")),
+                result -> {
+                    order.add(result.countryCode());
+                    callbackThreads.add(Thread.currentThread());
+                    if (result.countryCode().equals("US")) {
+                        usDelivered.countDown();
+                    }
+                },
+                (unit, error) -> { throw error; });
+
+        // then
+        assertThat(order).containsExactly("US", "KR");
+        assertThat(callbackThreads).containsOnly(caller);
+    }
+
+    @Test
+    @DisplayName("콜백이 예외를 던지면 남은 조회를 멈추고 그 예외를 그대로 던진다")
+    void 콜백_예외는_그대로_전파() {
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> PublicHolidays.uncached(
+                        List.of(holiday(invocation.getArgument(0), invocation.getArgument(1)))));
+        RuntimeException saveFailure = new IllegalStateException("저장 실패");
+
+        assertThatThrownBy(() -> new HolidayFetcher(nagerClient, 2).fetchAll(
+                List.of(new SyncUnit(2025, "KR"), new SyncUnit(2025, "US")),
+                result -> { throw saveFailure; },
+                (unit, error) -> { throw error; }))
+                .isSameAs(saveFailure);
+    }
+
+    private static NagerHolidayResponse holiday(int year, String countryCode) {
+        return new NagerHolidayResponse(LocalDate.of(year, 1, 1), "신정", "New Year's Day", countryCode,
+                true, true, null, List.of("Public"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.holiday.service;
+
+import com.example.holiday.calendar.BulkHolidayChecker;
+import com.example.holiday.calendar.BusinessDayCalendar;
+import com.example.holiday.domain.Country;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.repository.CountryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 지연 적재 모드(holiday.load.mode=lazy)에서 영업일 / 대량 확인 / ICS 경로 통합 테스트.
+ * 적재는 refresh 워커 스레드에서 커밋되므로 테스트 트랜잭션 없이, 다른 테스트와 공유하지 않는 별도 DB 를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:holiday-lazy;MODE=MYSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "holiday.load.mode=lazy"
+})
+class HolidayLazyLoadTest {
+
+    @Autowired
+    BusinessDayCalendar calendar;
+
+    @Autowired
+    BulkHolidayChecker bulkHolidayChecker;
+
+    @Autowired
+    IcsFeedService icsFeedService;
+
+    @Autowired
+    CountryRepository countryRepository;
+
+    @Autowired
+    ReferenceDataCache referenceDataCache;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @Test
+    @DisplayName("적재되지 않은 (국가, 연도)는 영업일 / 대량 확인 / ICS 응답 전에 적재하고, 적재하지 못하면 빈 데이터로 답하지 않는다")
+    void 응답_전에_적재() throws Exception {
+        // given: 국가 목록만 있는 상태 (KR 은 적재 가능, JP 는 외부 API 오류)
+        countryRepository.saveAll(List.of(
+                Country.builder().code("KR").name("Korea (Republic of)").build(),
+                Country.builder().code("JP").name("Japan").build()));
+        referenceDataCache.reload();
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR"))).willAnswer(invocation -> PublicHolidays.uncached(
+                List.of(new NagerHolidayResponse(LocalDate.of(invocation.getArgument(0, Integer.class), 1, 1), "새해",
+                        "New Year's Day", "KR", true, true, null, List.of("Public")))));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("JP"))).willThrow(new IllegalStateException("외부 API 오류"));
+
+        // when / then
+        BulkHolidayChecker.Result bulk = bulkHolidayChecker.check(new ByteArrayInputStream(
+                "[{\"countryCode\":\"KR\",\"date\":\"2024-01-01\"}]".getBytes(StandardCharsets.UTF_8)));
+        assertThat(bulk.holiday(0)).isTrue();
+
+        assertThat(calendar.isHoliday("KR", LocalDate.of(2025, 1, 1))).isTrue();
+        assertThat(calendar.nextBusinessDay("KR", LocalDate.of(2023, 12, 29))).isEqualTo(LocalDate.of(2024, 1, 2));
+
+        String ics = new String(icsFeedService.feed(List.of("KR"), 2022).body(), StandardCharsets.UTF_8);
+        assertThat(ics).contains("DTSTART;VALUE=DATE:20220101");
+
+        assertThatThrownBy(() -> calendar.isHoliday("JP", LocalDate.of(2025, 1, 1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> icsFeedService.feed(List.of("JP"), 2025))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
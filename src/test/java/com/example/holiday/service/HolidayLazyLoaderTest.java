@@ -0,0 +1,170 @@
+package com.example.holiday.service;
+
+import com.example.holiday.domain.Country;
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.repository.HolidayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * HolidayLazyLoader 단위 테스트 (적재 실행은 RefreshJob 을 직접 완료시켜 흉내).
+ */
+class HolidayLazyLoaderTest {
+
+    private static final HolidaySearchCondition KR_2025 = new HolidaySearchCondition(2025, "kr", null, null, null);
+
+    private RefreshJobService refreshJobService;
+    private ReferenceDataCache referenceDataCache;
+    private HolidayRepository holidayRepository;
+    private HolidayLazyLoader lazyLoader;
+
+    @BeforeEach
+    void setUp() {
+        refreshJobService = mock(RefreshJobService.class);
+        referenceDataCache = mock(ReferenceDataCache.class);
+        holidayRepository = mock(HolidayRepository.class);
+        given(referenceDataCache.findCountry(anyString())).willReturn(Optional.empty());
+        given(referenceDataCache.findCountry("KR"))
+                .willReturn(Optional.of(Country.builder().code("KR").name("South Korea").build()));
+        lazyLoader = loader(LoadMode.LAZY);
+    }
+
+    @Test
+    @DisplayName("같은 (국가, 연도)를 동시에 검색하면 적재는 한 번만 실행하고, 끝난 뒤에는 다시 적재하지 않는다")
+    void 동시_검색은_한_번만_적재() throws Exception {
+        // given: 적재가 예약되면 바로 끝나지 않고 대기
+        RefreshJob job = new RefreshJob(2025, "KR");
+        CountDownLatch submitted = new CountDownLatch(1);
+        given(refreshJobService.submitLoad(2025, "KR")).willAnswer(invocation -> {
+            submitted.countDown();
+            return job;
+        });
+
+        // when
+        List<Thread> searches = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            searches.add(Thread.ofVirtual().start(() -> lazyLoader.ensureLoaded(KR_2025)));
+        }
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+        job.succeed(SyncResult.inserted(15));
+        for (Thread search : searches) {
+            assertThat(search.join(Duration.ofSeconds(5))).isTrue();
+        }
+        lazyLoader.ensureLoaded(KR_2025);
+
+        // then
+        verify(refreshJobService, times(1)).submitLoad(2025, "KR");
+        assertThat(lazyLoader.isLoaded(2025, "kr")).isTrue();
+        assertThat(lazyLoader.loadedCountries()).containsExactly("KR");
+    }
+
+    @Test
+    @DisplayName("적재가 실패하면 있는 데이터로 응답하고 다음 검색 때 다시 적재한다")
+    void 실패하면_다음_검색에서_재시도() {
+        given(refreshJobService.submitLoad(2025, "KR")).willAnswer(invocation -> {
+            RefreshJob job = new RefreshJob(2025, "KR");
+            job.fail(new IllegalStateException("외부 API 오류"));
+            return job;
+        });
+
+        lazyLoader.ensureLoaded(KR_2025);
+        assertThat(lazyLoader.isLoaded(2025, "KR")).isFalse();
+
+        lazyLoader.ensureLoaded(KR_2025);
+        verify(refreshJobService, times(2)).submitLoad(2025, "KR");
+    }
+
+    @Test
+    @DisplayName("기동 시 DB 에 있던 (국가, 연도)는 건너뛰고, 기간 조건은 지원 범위 안의 연도만 적재한다")
+    void 기존_데이터와_기간_조건() {
+        given(holidayRepository.findYearsByCountry()).willReturn(Map.of("KR", Set.of(2020, 2021, 2022, 2023, 2024)));
+        given(refreshJobService.submitLoad(anyInt(), anyString())).willAnswer(invocation -> {
+            RefreshJob job = new RefreshJob(invocation.getArgument(0), invocation.getArgument(1));
+            job.succeed(SyncResult.EMPTY);
+            return job;
+        });
+
+        lazyLoader.registerExisting();
+        lazyLoader.ensureLoaded(new HolidaySearchCondition(null, "KR",
+                LocalDate.of(2024, 12, 1), LocalDate.of(2026, 1, 31), null));
+
+        verify(refreshJobService, times(1)).submitLoad(anyInt(), anyString());
+        verify(refreshJobService).submitLoad(2025, "KR");
+    }
+
+    @Test
+    @DisplayName("requireLoaded: 적재되지 않은 (국가, 연도)만 적재하고, 적재하지 못하면 IllegalStateException")
+    void 필수_적재() {
+        given(holidayRepository.findYearsByCountry()).willReturn(Map.of("KR", Set.of(2024)));
+        given(refreshJobService.submitLoad(anyInt(), anyString())).willAnswer(invocation -> {
+            RefreshJob job = new RefreshJob(invocation.getArgument(0), invocation.getArgument(1));
+            job.succeed(SyncResult.EMPTY);
+            return job;
+        });
+        given(refreshJobService.submitLoad(2023, "KR")).willAnswer(invocation -> {
+            RefreshJob job = new RefreshJob(2023, "KR");
+            job.fail(new IllegalStateException("외부 API 오류"));
+            return job;
+        });
+        lazyLoader.registerExisting();
+
+        // 적재된 2024, 창 밖 2019, 모르는 국가는 건너뛰고 2025 만 적재
+        lazyLoader.requireLoaded(Map.of("kr", List.of(2019, 2024, 2025), "ZZ", List.of(2025)));
+        verify(refreshJobService, times(1)).submitLoad(anyInt(), anyString());
+        assertThat(lazyLoader.isLoaded(2025, "KR")).isTrue();
+
+        assertThatThrownBy(() -> lazyLoader.requireLoaded(Map.of("KR", List.of(2023))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(lazyLoader.isLoaded(2023, "KR")).isFalse();
+    }
+
+    @Test
+    @DisplayName("requireLoaded: 새로 예약할 적재가 refresh 대기열의 남은 자리보다 많으면 하나도 예약하지 않고 RefreshQueueFullException")
+    void 대기열_자리가_모자라면_예약하지_않음() {
+        RefreshQueueFullException queueFull =
+                new RefreshQueueFullException("refresh 대기열이 가득 찼습니다.", Duration.ofSeconds(5), null);
+        willThrow(queueFull).given(refreshJobService).ensureCapacity(3);
+
+        assertThatThrownBy(() -> lazyLoader.requireLoaded(Map.of("KR", List.of(2023, 2024, 2025, 2025))))
+                .isSameAs(queueFull);
+        verify(refreshJobService, never()).submitLoad(anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("국가 코드가 없거나 모르는 국가, eager 모드면 적재하지 않는다")
+    void 적재하지_않는_검색() {
+        lazyLoader.ensureLoaded(new HolidaySearchCondition(2025, null, null, null, null));
+        lazyLoader.ensureLoaded(new HolidaySearchCondition(2025, "ZZ", null, null, null));
+        lazyLoader.ensureLoaded(new HolidaySearchCondition(2019, "KR", null, null, null));
+        loader(LoadMode.EAGER).ensureLoaded(KR_2025);
+
+        verify(refreshJobService, never()).submitLoad(anyInt(), anyString());
+    }
+
+    private HolidayLazyLoader loader(LoadMode mode) {
+        return new HolidayLazyLoader(refreshJobService, referenceDataCache, holidayRepository,
+                new HolidayYearWindow(2025, 5, 0), mode, Duration.ofSeconds(5));
+    }
+}
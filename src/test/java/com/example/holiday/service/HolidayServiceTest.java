@@ -6,13 +6,25 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.example.holiday.domain.Country;
 import com.example.holiday.domain.Holiday;
 import com.example.holiday.domain.HolidayType;
+import com.example.holiday.domain.SyncCheckpoint;
+import com.example.holiday.domain.SyncJobType;
+import com.example.holiday.domain.SyncStatus;
 
+import com.example.holiday.dto.request.HolidaySearchCondition;
+import com.example.holiday.dto.response.HolidayCursorPageResponse;
 import com.example.holiday.dto.response.HolidayResponse;
 import com.example.holiday.dto.response.NagerCountryResponse;
 import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.metrics.HolidayDatasetMetrics;
 import com.example.holiday.repository.CountryRepository;
 import com.example.holiday.repository.HolidayRepository;
 import com.example.holiday.repository.HolidayTypeRepository;
+import com.example.holiday.repository.SyncCheckpointRepository;
+import com.example.holiday.search.HolidaySnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -23,8 +35,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -51,6 +69,27 @@ class HolidayServiceTest {
     @Autowired
     HolidayTypeRepository holidayTypeRepository;
 
+    @Autowired
+    HolidayExportService holidayExportService;
+
+    @Autowired
+    IcsFeedService icsFeedService;
+
+    @Autowired
+    SyncCheckpointRepository syncCheckpointRepository;
+
+    @Autowired
+    HolidayDatasetMetrics holidayDatasetMetrics;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    NagerResponseCache responseCache;
+
+    @Autowired
+    ReferenceDataCache referenceDataCache;
+
     @MockBean
     NagerClient nagerClient;
 
@@ -72,7 +111,7 @@ class HolidayServiceTest {
         ).willAnswer(invocation -> {
             int year = invocation.getArgument(0, Integer.class);
             String countryCode = invocation.getArgument(1, String.class);
-            return List.of(
+            return PublicHolidays.uncached(List.of(
                     new NagerHolidayResponse(
                             LocalDate.of(year, 1, 1),   // 날짜는 해당 연도 1/1
                             "새해",
@@ -83,7 +122,7 @@ class HolidayServiceTest {
                             2025,
                             List.of("Public")
                     )
-            );
+            ));
         });
 
         // when
@@ -167,6 +206,34 @@ class HolidayServiceTest {
         assertThat(holidayRepository.count()).isEqualTo(beforeHolidayCount);
     }
 
+    @Test
+    @DisplayName("loadCountriesIfEmpty: 지연 적재 모드는 국가 목록만 적재하고, 공휴일은 (국가, 연도) 단위로 채워진다")
+    void 지연_적재_국가_목록만() {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)"),
+                new NagerCountryResponse("JP", "Japan")
+        ));
+        given(nagerClient.getPublicHolidays(2024, "KR")).willReturn(PublicHolidays.uncached(List.of(
+                new NagerHolidayResponse(LocalDate.of(2024, 1, 1), "새해", "New Year's Day", "KR",
+                        false, true, null, List.of("Public"))
+        )));
+
+        // when
+        holidayService.loadCountriesIfEmpty();
+        holidayService.loadCountriesIfEmpty();
+
+        // then: 국가만 저장, 공휴일 조회 없음 (두 번째 호출은 아무것도 안 함)
+        assertThat(countryRepository.findAll()).extracting(Country::getCode).containsExactlyInAnyOrder("JP", "KR");
+        assertThat(holidayRepository.count()).isZero();
+        verify(nagerClient, times(1)).getAvailableCountries();
+        verify(nagerClient, never()).getPublicHolidays(anyInt(), anyString());
+
+        // 처음 검색된 (국가, 연도)만 적재
+        holidayService.refresh(2024, "KR");
+        assertThat(holidayRepository.findYearsByCountry()).containsExactly(Map.entry("KR", Set.of(2024)));
+    }
+
     @Test
     @DisplayName("refresh: 특정 연도/국가 데이터를 삭제 후 재삽입한다")
     void refresh_테스트() {
@@ -180,7 +247,7 @@ class HolidayServiceTest {
                 .willAnswer(invocation -> {
                     int year = invocation.getArgument(0, Integer.class);
                     String countryCode = invocation.getArgument(1, String.class);
-                    return List.of(
+                    return PublicHolidays.uncached(List.of(
                             new NagerHolidayResponse(
                                     LocalDate.of(year, 1, 1),
                                     "새해 첫날",
@@ -191,7 +258,7 @@ class HolidayServiceTest {
                                     2025,
                                     List.of("Public")
                             )
-                    );
+                    ));
                 });
 
         holidayService.initialLoadIfEmpty();
@@ -213,7 +280,7 @@ class HolidayServiceTest {
 
         // 2025년 KR 공휴일을 "다른 이름"으로 바꿔서 리턴하도록 Stub
         given(nagerClient.getPublicHolidays(2025, "KR"))
-                .willReturn(List.of(
+                .willReturn(PublicHolidays.uncached(List.of(
                         new NagerHolidayResponse(
                                 LocalDate.of(2025, 2, 1),
                                 "새로운 휴일",
@@ -224,7 +291,7 @@ class HolidayServiceTest {
                                 2025,
                                 List.of("Public")
                         )
-                ));
+                )));
 
         // when
         holidayService.refresh(2025, "KR");
@@ -244,4 +311,553 @@ class HolidayServiceTest {
         assertThat(refreshed.date()).isEqualTo(LocalDate.of(2025, 2, 1));
         assertThat(refreshed.name()).isEqualTo("New Holiday");
     }
+
+    @Test
+    @DisplayName("refresh: 변경분만 반영하고 추가/수정/삭제/변경없음 건수를 반환한다")
+    void refresh_변경분만_반영() {
+        // given
+        // 1) KR 2020~2025, 연도마다 "새해", "삼일절" 2건 적재
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 1), "삼일절", "Independence Movement Day",
+                                    "KR", true, true, null, List.of("Public"))
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+
+        Long newYearId = findKr2025("새해").id();
+
+        // 2) 2025 KR: 새해는 영문명만 변경, 삼일절 삭제, 광복절 추가
+        reset(nagerClient);
+        given(nagerClient.getPublicHolidays(2025, "KR"))
+                .willReturn(PublicHolidays.uncached(List.of(
+                        new NagerHolidayResponse(LocalDate.of(2025, 1, 1), "새해", "New Year",
+                                "KR", true, true, null, List.of("Public")),
+                        new NagerHolidayResponse(LocalDate.of(2025, 8, 15), "광복절", "Liberation Day",
+                                "KR", true, true, null, List.of("Public"))
+                )));
+
+        // when
+        SyncResult result = holidayService.refresh(2025, "KR");
+
+        // then
+        assertThat(result).isEqualTo(new SyncResult(1, 1, 1, 0, 0));
+
+        HolidayResponse newYear = findKr2025("새해");
+        assertThat(newYear.id()).isEqualTo(newYearId);   // 같은 행을 UPDATE
+        assertThat(newYear.name()).isEqualTo("New Year");
+        assertThat(holidayService.search(2025, "KR", null, null, null, PageRequest.of(0, 10))
+                .getContent())
+                .extracting(HolidayResponse::localName)
+                .containsExactly("새해", "광복절");
+
+        // 다시 같은 응답으로 refresh 하면 변경 없음
+        assertThat(holidayService.refresh(2025, "KR")).isEqualTo(new SyncResult(0, 0, 0, 2, 0));
+    }
+
+    @Test
+    @DisplayName("refresh: 304 로 받은 본문이 이미 반영된 것이면 DB 쓰기를 생략하고, 미반영이면 다시 쓴다")
+    void refresh_304_반영_여부() throws Exception {
+        // given: KR 2025 "새해" 적재 후, 캐시에 같은 URI 의 반영된 본문이 있는 상태
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> PublicHolidays.uncached(List.of(new NagerHolidayResponse(
+                        LocalDate.of(invocation.getArgument(0, Integer.class), 1, 1), "새해", "New Year's Day",
+                        "KR", true, true, null, List.of("Public")))));
+        holidayService.initialLoadIfEmpty();
+
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", null, "[]");
+        long version = responseCache.find(uri).orElseThrow().version();
+        try {
+            // 테스트 트랜잭션은 커밋되지 않으므로 트랜잭션 밖(다른 스레드)에서 반영 기록
+            Thread.ofVirtual().start(() -> responseCache.markApplied(uri, version)).join();
+            given(nagerClient.getPublicHolidays(2025, "KR")).willReturn(new PublicHolidays(List.of(), version));
+
+            // when / then: 반영된 본문이면 304 로 보고 기존 행 유지
+            assertThat(holidayService.refresh(2025, "KR")).isEqualTo(SyncResult.NOT_MODIFIED);
+            assertThat(findKr2025("새해")).isNotNull();
+
+            // 미반영으로 바뀌면 같은 응답이어도 다시 반영
+            Thread.ofVirtual().start(() -> responseCache.markStale(uri)).join();
+            assertThat(holidayService.refresh(2025, "KR")).isEqualTo(new SyncResult(0, 0, 1, 0, 0));
+        } finally {
+            // 검증자 없는 저장 = 항목 삭제 (컨텍스트를 공유하는 다른 테스트에 남기지 않음)
+            responseCache.store(uri, null, null, "[]");
+        }
+    }
+
+    @Test
+    @DisplayName("load(지연 적재): 캐시에 반영된 것으로 남은 응답이어도 304 로 생략하지 않고 저장한다")
+    void 지연_적재는_반영_여부를_보지_않음() throws Exception {
+        // given: DB 는 비었는데 캐시에는 KR 2025 응답이 반영된 것으로 남은 상태
+        countryRepository.save(Country.builder().code("KR").name("Korea (Republic of)").build());
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", null, "[]");
+        long version = responseCache.find(uri).orElseThrow().version();
+        given(nagerClient.getPublicHolidays(2025, "KR")).willReturn(new PublicHolidays(List.of(
+                new NagerHolidayResponse(LocalDate.of(2025, 1, 1), "새해", "New Year's Day", "KR",
+                        true, true, null, List.of("Public"))), version));
+        try {
+            Thread.ofVirtual().start(() -> responseCache.markApplied(uri, version)).join();
+            assertThat(holidayService.refresh(2025, "KR")).isEqualTo(SyncResult.NOT_MODIFIED);
+
+            // when
+            SyncResult result = holidayService.load(2025, "kr");
+
+            // then
+            assertThat(result.inserted()).isEqualTo(1);
+            assertThat(findKr2025("새해")).isNotNull();
+        } finally {
+            responseCache.store(uri, null, null, "[]");
+        }
+    }
+
+    @Test
+    @DisplayName("searchByCursor: nextCursor 로 이어서 조회하면 OFFSET 페이징과 같은 순서로 전체를 돌려준다")
+    void 커서_페이징() {
+        // given
+        // KR 연도마다 5건, 그 중 2건은 같은 날짜 (id 로 순서 구분)
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 1), "삼일절", "Independence Movement Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 5, 5), "어린이날", "Children's Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 5, 5), "부처님 오신 날", "Buddha's Birthday",
+                                    "KR", false, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 8, 15), "광복절", "Liberation Day",
+                                    "KR", true, true, null, List.of("Public"))
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+
+        HolidaySearchCondition condition = new HolidaySearchCondition(2025, "kr", null, null, null);
+        List<Long> expected = holidayService.search(2025, "KR", null, null, null, PageRequest.of(0, 10))
+                .getContent().stream()
+                .map(HolidayResponse::id)
+                .toList();
+
+        // when
+        List<Long> actual = new ArrayList<>();
+        HolidayCursorPageResponse page = holidayService.searchByCursor(condition, null, 2, true);
+        assertThat(page.totalElements()).isEqualTo(5);
+        page.content().forEach(h -> actual.add(h.id()));
+
+        while (page.hasNext()) {
+            page = holidayService.searchByCursor(condition, page.nextCursor(), 2, false);
+            assertThat(page.totalElements()).isNull();
+            page.content().forEach(h -> actual.add(h.id()));
+        }
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("HolidaySnapshot: 메모리 인덱스 검색 결과가 DB 검색과 같다")
+    void 메모리_스냅샷_검색() {
+        // given
+        // KR, JP 연도마다 3건 (JP 1건은 타입 없음)
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("JP", "Japan"),
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    String countryCode = invocation.getArgument(1, String.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    countryCode, true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 5, 5), "어린이날", "Children's Day",
+                                    countryCode, true, true, null, List.of("Bank")),
+                            new NagerHolidayResponse(LocalDate.of(year, 12, 25), "성탄절", "Christmas Day",
+                                    countryCode, true, false, null, countryCode.equals("JP") ? null : List.of("Public"))
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+
+        // when
+        HolidaySnapshot snapshot = new HolidaySnapshot(holidayRepository.findAllResponses());
+
+        // then
+        List<HolidaySearchCondition> conditions = List.of(
+                new HolidaySearchCondition(null, null, null, null, null),
+                new HolidaySearchCondition(2025, "KR", null, null, null),
+                new HolidaySearchCondition(null, "JP", LocalDate.of(2021, 3, 1), LocalDate.of(2023, 5, 5), null),
+                new HolidaySearchCondition(null, null, LocalDate.of(2022, 5, 5), null, "Public"),
+                new HolidaySearchCondition(2024, null, null, LocalDate.of(2024, 5, 5), "Bank"),
+                new HolidaySearchCondition(2025, "US", null, null, null)
+        );
+        for (HolidaySearchCondition condition : conditions) {
+            for (PageRequest pageable : List.of(PageRequest.of(0, 4), PageRequest.of(2, 4), PageRequest.of(0, 100))) {
+                Page<HolidayResponse> expected = holidayRepository.search(condition.year(), condition.countryCode(),
+                        condition.from(), condition.to(), condition.typeCode(), pageable).map(HolidayResponse::from);
+                Page<HolidayResponse> actual = snapshot.search(condition, pageable);
+
+                assertThat(actual.getTotalElements()).as("%s %s", condition, pageable)
+                        .isEqualTo(expected.getTotalElements());
+                assertThat(actual.getContent()).as("%s %s", condition, pageable)
+                        .containsExactlyElementsOf(expected.getContent());
+
+                // DB 프로젝션 경로도 엔티티 경로와 같은 결과
+                Page<HolidayResponse> projected = holidayRepository.searchResponses(condition, pageable);
+                assertThat(projected.getTotalElements()).as("%s %s", condition, pageable)
+                        .isEqualTo(expected.getTotalElements());
+                assertThat(projected.getContent()).as("%s %s", condition, pageable)
+                        .containsExactlyElementsOf(expected.getContent());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("export: 조건에 맞는 행을 (날짜, id) 순으로 NDJSON / CSV 로 기록한다")
+    void export_스트리밍() throws IOException {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 1), "삼일절", "Independence Movement Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day, \"Sinjeong\"",
+                                    "KR", true, true, null, null)
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+        HolidaySearchCondition condition = new HolidaySearchCondition(2025, "kr", null, null, null);
+
+        // when
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long ndjsonCount = holidayExportService.export(condition, ExportFormat.NDJSON, ndjson);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        holidayExportService.export(condition, ExportFormat.CSV, csv);
+
+        // then
+        assertThat(ndjsonCount).isEqualTo(2);
+        List<String> lines = ndjson.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"date\":\"2025-01-01\"").contains("\"typeCode\":null");
+        assertThat(lines.get(1)).contains("\"localName\":\"삼일절\"");
+
+        List<String> csvLines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(csvLines).hasSize(3);
+        assertThat(csvLines.get(0)).startsWith("id,countryCode,countryName,date");
+        assertThat(csvLines.get(1)).contains(",KR,Korea (Republic of),2025-01-01,2025,새해,\"New Year's Day, \"\"Sinjeong\"\"\",,true,true,");
+    }
+
+    @Test
+    @DisplayName("ics: 국가·연도 피드를 RFC 5545 형식(CRLF, 75 octet 접기)으로 렌더링한다")
+    void ics_피드() {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)"),
+                new NagerCountryResponse("US", "United States")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    String countryCode = invocation.getArgument(1, String.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    countryCode, true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 9, 17), "추석; 한가위, 가장 큰 명절 중 하나인 한국의 전통 추수 감사절",
+                                    "Chuseok", countryCode, false, true, null, List.of("Public"))
+                    ));
+                });
+        holidayService.initialLoadIfEmpty();
+
+        // when
+        IcsFeedService.IcsFeed feed = icsFeedService.feed(List.of("kr"), 2025);
+        IcsFeedService.IcsFeed multi = icsFeedService.feed(List.of("US", "KR"), 2025);
+
+        // then
+        String ics = new String(feed.body(), StandardCharsets.UTF_8);
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics).contains("DTSTART;VALUE=DATE:20250101\r\nDTEND;VALUE=DATE:20250102\r\n");
+        assertThat(ics).contains("SUMMARY:새해 (New Year's Day)\r\n");
+        assertThat(ics).contains("추석\\; 한가위\\,");
+        assertThat(ics.split("\r\n"))
+                .allSatisfy(line -> assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+        assertThat(ics.split("\r\n")).filteredOn(line -> line.startsWith("BEGIN:VEVENT")).hasSize(2);
+
+        assertThat(new String(multi.body(), StandardCharsets.UTF_8)).contains("SUMMARY:[US] 새해 (New Year's Day)");
+        assertThat(feed.etag()).isNotEqualTo(multi.etag());
+        assertThat(icsFeedService.feed(List.of("KR"), 2025).etag()).isEqualTo(feed.etag());
+    }
+
+    @Test
+    @DisplayName("initialLoadIfEmpty: 실패한 (연도, 국가)는 체크포인트에 남고 다음 실행 때 그 단위만 다시 적재한다")
+    void 초기_적재_체크포인트_재개() {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    if (year == 2022) {
+                        throw new IllegalStateException("일시적 외부 API 오류");
+                    }
+                    return PublicHolidays.uncached(List.of(new NagerHolidayResponse(LocalDate.of(year, 1, 1),
+                            "새해", "New Year's Day", "KR", true, true, null, List.of("Public"))));
+                });
+
+        // when: 첫 실행은 2022 만 실패
+        holidayService.initialLoadIfEmpty();
+
+        // then
+        assertThat(holidayRepository.count()).isEqualTo(5);
+        assertThat(syncCheckpointRepository.findByJobName("initial-load"))
+                .hasSize(6)
+                .filteredOn(checkpoint -> checkpoint.getStatus() == SyncStatus.FAILED)
+                .singleElement()
+                .satisfies(checkpoint -> {
+                    assertThat(checkpoint.getYear()).isEqualTo(2022);
+                    assertThat(checkpoint.getAttempt()).isEqualTo(1);
+                    assertThat(checkpoint.getLastError()).contains("일시적 외부 API 오류");
+                });
+
+        // when: 외부 API 가 회복된 뒤 재실행 (재시작 시 HolidayDataInitializer 와 같은 경로)
+        reset(nagerClient);
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willReturn(PublicHolidays.uncached(List.of(new NagerHolidayResponse(LocalDate.of(2022, 1, 1),
+                        "새해", "New Year's Day", "KR", true, true, null, List.of("Public")))));
+        holidayService.initialLoadIfEmpty();
+
+        // then: 남은 단위 하나만 조회
+        verify(nagerClient, never()).getAvailableCountries();
+        verify(nagerClient, times(1)).getPublicHolidays(anyInt(), anyString());
+        verify(nagerClient).getPublicHolidays(2022, "KR");
+        assertThat(holidayRepository.count()).isEqualTo(6);
+        assertThat(syncCheckpointRepository.findByJobName("initial-load"))
+                .allSatisfy(checkpoint -> assertThat(checkpoint.getStatus()).isEqualTo(SyncStatus.DONE));
+    }
+
+    @Test
+    @DisplayName("syncAllCountries: 같은 날 같은 연도로 다시 호출해도 새 작업으로 전체 단위를 다시 동기화한다")
+    void 같은_날_재동기화() {
+        // given
+        countryRepository.save(Country.builder().code("KR").name("Korea (Republic of)").build());
+        given(nagerClient.getPublicHolidays(2025, "KR"))
+                .willReturn(PublicHolidays.uncached(List.of(new NagerHolidayResponse(LocalDate.of(2025, 1, 1),
+                        "새해", "New Year's Day", "KR", true, true, null, List.of("Public")))))
+                .willReturn(PublicHolidays.uncached(List.of(new NagerHolidayResponse(LocalDate.of(2025, 1, 1),
+                        "신정", "New Year's Day", "KR", true, true, null, List.of("Public")))));
+
+        // when
+        SyncJobEngine.SyncJobReport first = holidayService.syncAllCountries(List.of(2025));
+        SyncJobEngine.SyncJobReport second = holidayService.syncAllCountries(List.of(2025));
+
+        // then
+        assertThat(second.jobName()).isNotEqualTo(first.jobName());
+        assertThat(second.completed()).isEqualTo(1);
+        verify(nagerClient, times(2)).getPublicHolidays(2025, "KR");
+        assertThat(holidayRepository.findAll())
+                .singleElement()
+                .satisfies(holiday -> assertThat(holiday.getLocalName()).isEqualTo("신정"));
+    }
+
+    @Test
+    @DisplayName("syncCountries: 수동 재동기화 작업은 실패가 있어도 끝나면 기록을 지우고, 기동 시 남은 수동 작업 기록도 지운다")
+    void 수동_재동기화_작업_정리() {
+        // given
+        countryRepository.save(Country.builder().code("KR").name("Korea (Republic of)").build());
+        given(nagerClient.getPublicHolidays(2025, "KR")).willThrow(new IllegalStateException("일시적 외부 API 오류"));
+
+        // when
+        SyncJobEngine.SyncJobReport report = holidayService.syncAllCountries(List.of(2025));
+
+        // then
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(syncCheckpointRepository.findByJobName(report.jobName())).isEmpty();
+
+        // given: 재시작으로 끝나지 못한 수동 작업
+        syncCheckpointRepository.save(SyncCheckpoint.pending("resync-crashed", SyncJobType.RESYNC, 2025, "KR"));
+
+        // when
+        List<SyncJobEngine.SyncJobReport> resumed = holidayService.resumeIncompleteResyncJobs();
+
+        // then: 이어서 실행하지 않고 기록만 삭제
+        assertThat(resumed).isEmpty();
+        assertThat(syncCheckpointRepository.findByJobName("resync-crashed")).isEmpty();
+        verify(nagerClient, times(1)).getPublicHolidays(2025, "KR");
+    }
+
+    @Test
+    @DisplayName("syncAnnual: 실패한 단위는 남아 기동 시 그 단위만 이어서 실행하고, 끝난 작업은 기록을 지워 다음 실행 때 전체를 다시 동기화한다")
+    void 연간_배치_재개() {
+        // given: 2024, 2025 × KR 중 2025 만 실패
+        countryRepository.save(Country.builder().code("KR").name("Korea (Republic of)").build());
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    if (year == 2025) {
+                        throw new IllegalStateException("일시적 외부 API 오류");
+                    }
+                    return PublicHolidays.uncached(List.of(new NagerHolidayResponse(LocalDate.of(year, 1, 1),
+                            "새해", "New Year's Day", "KR", true, true, null, List.of("Public"))));
+                });
+        List<Integer> years = holidayService.annualSyncYears();
+        assertThat(years).containsExactly(2024, 2025);
+
+        // when
+        SyncJobEngine.SyncJobReport first = holidayService.syncAnnual(years);
+
+        // then: 작업 이름은 연도 구성으로 정해지고 실패한 단위 기록이 남는다
+        assertThat(first.jobName()).isEqualTo("annual-2024-2025");
+        assertThat(first.failed()).isEqualTo(1);
+        assertThat(syncCheckpointRepository.findByJobName("annual-2024-2025"))
+                .filteredOn(checkpoint -> checkpoint.getStatus() == SyncStatus.FAILED)
+                .singleElement()
+                .satisfies(checkpoint -> assertThat(checkpoint.getYear()).isEqualTo(2025));
+
+        // when: 외부 API 가 회복된 뒤 재시작 (HolidayDataInitializer 와 같은 경로)
+        reset(nagerClient);
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> PublicHolidays.uncached(List.of(new NagerHolidayResponse(
+                        LocalDate.of(invocation.getArgument(0, Integer.class), 1, 1), "새해", "New Year's Day",
+                        "KR", true, true, null, List.of("Public")))));
+        List<SyncJobEngine.SyncJobReport> resumed = holidayService.resumeIncompleteResyncJobs();
+
+        // then: 남은 단위 하나만 조회하고, 실패 없이 끝난 작업의 기록은 삭제
+        assertThat(resumed).singleElement()
+                .satisfies(report -> assertThat(report.completed()).isEqualTo(1));
+        verify(nagerClient, times(1)).getPublicHolidays(anyInt(), anyString());
+        verify(nagerClient).getPublicHolidays(2025, "KR");
+        assertThat(syncCheckpointRepository.findByJobName("annual-2024-2025")).isEmpty();
+
+        // when: 같은 연도 구성으로 다시 실행
+        SyncJobEngine.SyncJobReport again = holidayService.syncAnnual(years);
+
+        // then: 새로 계획해 전체 단위를 다시 동기화
+        assertThat(again.completed()).isEqualTo(2);
+        verify(nagerClient, times(3)).getPublicHolidays(anyInt(), anyString());
+        assertThat(syncCheckpointRepository.findByJobName("annual-2024-2025")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지표: 단위 동기화 시간·반영 행 수, 조건 조합별 검색 시간, 연도별 행 수, 참조 데이터 캐시 적중 수를 기록한다")
+    void 운영_지표() {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
+                .willAnswer(invocation -> {
+                    int year = invocation.getArgument(0, Integer.class);
+                    return PublicHolidays.uncached(List.of(
+                            new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                                    "KR", true, true, null, List.of("Public")),
+                            new NagerHolidayResponse(LocalDate.of(year, 3, 1), "삼일절", "Independence Movement Day",
+                                    "KR", true, true, null, List.of("Public"))
+                    ));
+                });
+        // 레지스트리는 테스트 컨텍스트 전체가 공유하므로 증가분으로 비교
+        long syncsBefore = syncCount("initial_load", 2025);
+        double rowsBefore = insertedRows(2025);
+        long searchesBefore = searchCount("year+country");
+        double referenceHitsBefore = referenceCacheCount("hit");
+
+        // when
+        holidayService.initialLoadIfEmpty();
+        holidayService.search(2025, "KR", null, null, null, PageRequest.of(0, 10));
+        holidayDatasetMetrics.refresh();
+
+        // then
+        assertThat(syncCount("initial_load", 2025)).isEqualTo(syncsBefore + 1);
+        assertThat(insertedRows(2025)).isEqualTo(rowsBefore + 2);
+        assertThat(searchCount("year+country")).isEqualTo(searchesBefore + 1);
+        assertThat(meterRegistry.get("holiday.dataset.rows").tag("year", "2025").gauge().value())
+                .isEqualTo(2);
+        // 적재 중 국가 / 공휴일 타입 조회가 캐시에서 처리되고, 지표는 stats() 와 같은 값
+        assertThat(referenceCacheCount("hit")).isGreaterThan(referenceHitsBefore)
+                .isEqualTo((double) referenceDataCache.stats().hits());
+        assertThat(referenceCacheCount("miss")).isEqualTo((double) referenceDataCache.stats().misses());
+    }
+
+    @Test
+    @DisplayName("purgeExpiredYears: 지원 연도 창(2020~2025)보다 이전 연도만 삭제하고, 창 밖 연도 요청은 거절한다")
+    void 창_밖_연도_삭제() {
+        // given: 창 안(2020, 2025) + 창 밖(2018, 2019) 행
+        Country kr = countryRepository.save(Country.builder().code("KR").name("Korea (Republic of)").build());
+        List<Holiday> holidays = new ArrayList<>();
+        for (int year : List.of(2018, 2019, 2019, 2020, 2025)) {
+            holidays.add(Holiday.builder()
+                    .country(kr)
+                    .date(LocalDate.of(year, 1, 1).plusDays(holidays.size()))
+                    .localName("공휴일 " + holidays.size())
+                    .name("Holiday " + holidays.size())
+                    .fixed(false)
+                    .global(true)
+                    .build());
+        }
+        holidayRepository.saveAll(holidays);
+
+        // when
+        long purged = holidayService.purgeExpiredYears();
+
+        // then
+        assertThat(purged).isEqualTo(3);
+        assertThat(holidayRepository.countByYear()).containsOnlyKeys(2020, 2025);
+        assertThat(holidayService.purgeExpiredYears()).isZero();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> holidayService.refresh(2026, "KR"));
+        assertThat(error).hasMessage("지원 연도 범위는 2020 ~ 2025 입니다. 요청 연도: 2026");
+        verify(nagerClient, never()).getPublicHolidays(anyInt(), anyString());
+    }
+
+    private long syncCount(String job, int year) {
+        return meterRegistry.find("holiday.sync")
+                .tags("job", job, "country", "KR", "year", String.valueOf(year))
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    private double insertedRows(int year) {
+        Counter counter = meterRegistry.find("holiday.sync.rows")
+                .tags("job", "initial_load", "country", "KR", "year", String.valueOf(year), "change", "inserted")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double referenceCacheCount(String result) {
+        return meterRegistry.get("holiday.reference.cache").tag("result", result).functionCounter().count();
+    }
+
+    private long searchCount(String filters) {
+        Timer timer = meterRegistry.find("holiday.search").tags("filters", filters, "source", "db").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private HolidayResponse findKr2025(String localName) {
+        return holidayService.search(2025, "KR", null, null, null, PageRequest.of(0, 10))
+                .getContent().stream()
+                .filter(h -> h.localName().equals(localName))
+                .findFirst()
+                .orElseThrow();
+    }
 }
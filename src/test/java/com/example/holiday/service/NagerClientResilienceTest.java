@@ -0,0 +1,151 @@
+package com.example.holiday.service;
+
+import com.example.holiday.config.NagerProperties;
+import com.example.holiday.config.WebClientConfig;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.support.NagerStubServer;
+import com.example.holiday.support.NagerStubServer.StubResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NagerClient 타임아웃 / 재시도 / rate limit / bulkhead 테스트.
+ * 로컬 대역 서버(NagerStubServer)로 지연과 오류를 주입한다.
+ */
+class NagerClientResilienceTest {
+
+    private static final String KR_2025 = "/PublicHolidays/2025/KR";
+    private static final String KR_2025_BODY = """
+            [{"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR",
+              "fixed":true,"global":true,"launchYear":null,"types":["Public"]}]
+            """;
+
+    @TempDir
+    Path cacheDir;
+
+    NagerStubServer stub;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new NagerStubServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("5xx 는 백오프 후 재시도해 성공 응답을 돌려준다")
+    void 서버_오류_재시도() {
+        stub.stub(KR_2025, StubResponse.status(503), StubResponse.status(500), StubResponse.ok(KR_2025_BODY));
+        NagerClient client = client(properties(Duration.ofSeconds(2), null));
+
+        List<NagerHolidayResponse> holidays = client.getPublicHolidays(2025, "KR").holidays();
+
+        assertThat(holidays).extracting(NagerHolidayResponse::date).containsExactly(LocalDate.of(2025, 1, 1));
+        assertThat(stub.hits(KR_2025)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("응답이 read timeout 보다 늦으면 재시도하고, 횟수를 다 쓰면 마지막 오류를 던진다")
+    void 응답_지연_타임아웃() {
+        stub.stub(KR_2025, StubResponse.ok(KR_2025_BODY).after(Duration.ofSeconds(2)), StubResponse.ok(KR_2025_BODY));
+        NagerClient client = client(properties(Duration.ofMillis(300), null));
+
+        assertThat(client.getPublicHolidays(2025, "KR").holidays()).hasSize(1);
+        assertThat(stub.hits(KR_2025)).isEqualTo(2);
+
+        stub.stub(KR_2025, StubResponse.ok(KR_2025_BODY).after(Duration.ofSeconds(2)));
+        assertThatThrownBy(() -> client.getPublicHolidays(2025, "KR"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(stub.hits(KR_2025)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("4xx 는 재시도하지 않는다")
+    void 클라이언트_오류_재시도x() {
+        stub.stub(KR_2025, StubResponse.status(404));
+        NagerClient client = client(properties(Duration.ofSeconds(2), null));
+
+        assertThatThrownBy(() -> client.getPublicHolidays(2025, "KR"))
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        assertThat(stub.hits(KR_2025)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rate limit: 초당 호출 수를 넘는 요청은 토큰이 생길 때까지 지연된다")
+    void 초당_호출_수_제한() {
+        stub.stub(KR_2025, StubResponse.ok(KR_2025_BODY));
+        NagerProperties.Lane limited = new NagerProperties.Lane(4, 10, 1, Duration.ofSeconds(5));
+        NagerClient client = client(properties(Duration.ofSeconds(2), new NagerProperties.Lanes(limited, null)));
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            client.getPublicHolidays(2025, "KR");
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // burst 1 + 초당 10개 → 두 번째부터 100ms 간격
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(350);
+    }
+
+    @Test
+    @DisplayName("bulkhead: 배치 lane 이 가득 차도 사용자 요청(interactive lane)은 바로 처리된다")
+    void 배치가_사용자_요청을_막지_않음() throws Exception {
+        stub.stub("/PublicHolidays/2025/US", StubResponse.ok("[]").after(Duration.ofMillis(1500)));
+        stub.stub(KR_2025, StubResponse.ok(KR_2025_BODY));
+        NagerProperties.Lane batch = new NagerProperties.Lane(1, 0, 0, Duration.ofMillis(200));
+        NagerClient client = client(properties(Duration.ofSeconds(5), new NagerProperties.Lanes(null, batch)));
+
+        CompletableFuture<PublicHolidays> slowBatch = CompletableFuture.supplyAsync(
+                () -> NagerLane.BATCH.call(() -> client.getPublicHolidays(2025, "US")));
+        Thread.sleep(200);
+
+        // 배치 lane 은 자리가 없어 maxWait 후 실패
+        assertThatThrownBy(() -> NagerLane.BATCH.call(() -> client.getPublicHolidays(2025, "KR")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("BATCH");
+
+        // 사용자 요청은 영향 없음
+        long started = System.nanoTime();
+        assertThat(client.getPublicHolidays(2025, "KR").holidays()).hasSize(1);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+        assertThat(slowBatch.get(5, TimeUnit.SECONDS).holidays()).isEmpty();
+    }
+
+    private NagerProperties properties(Duration responseTimeout, NagerProperties.Lanes lanes) {
+        return new NagerProperties(stub.baseUrl(), Duration.ofSeconds(1), responseTimeout, Duration.ofSeconds(5),
+                8, Duration.ofSeconds(5),
+                new NagerProperties.Retry(3, Duration.ofMillis(20), Duration.ofMillis(100), 0.5),
+                lanes);
+    }
+
+    private NagerClient client(NagerProperties properties) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        return new NagerClient(new WebClientConfig().nagerWebClient(WebClient.builder(), properties),
+                new NagerResponseCache(objectMapper, false, cacheDir),
+                objectMapper,
+                new NagerThrottle(properties),
+                properties);
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.holiday.service;
+
+import com.example.holiday.config.NagerProperties;
+import com.example.holiday.config.WebClientConfig;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.support.NagerStubServer;
+import com.example.holiday.support.NagerStubServer.StubResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NagerResponseCache / NagerClient 조건부 요청 테스트.
+ * 로컬 대역 서버(NagerStubServer)로 ETag / Last-Modified / 304 를 주고받는다.
+ */
+class NagerResponseCacheTest {
+
+    private static final String KR_2025 = "/PublicHolidays/2025/KR";
+    private static final String KR_2025_BODY = """
+            [{"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR",
+              "fixed":true,"global":true,"launchYear":null,"types":["Public"]}]
+            """;
+    private static final String LAST_MODIFIED = "Wed, 01 Jan 2025 00:00:00 GMT";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path cacheDir;
+
+    NagerStubServer stub;
+    NagerResponseCache responseCache;
+    NagerClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new NagerStubServer();
+        responseCache = new NagerResponseCache(objectMapper, true, cacheDir);
+        NagerProperties properties = new NagerProperties(stub.baseUrl(), Duration.ofSeconds(1), Duration.ofSeconds(2),
+                Duration.ofSeconds(5), 8, Duration.ofSeconds(5),
+                new NagerProperties.Retry(1, null, null, 0), null);
+        client = new NagerClient(new WebClientConfig().nagerWebClient(WebClient.builder(), properties),
+                responseCache, objectMapper, new NagerThrottle(properties), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("200 응답의 ETag / Last-Modified 로 다음 요청을 조건부로 보내고, 304 면 저장한 본문을 돌려준다")
+    void 조건부_요청과_304() {
+        // given: 첫 응답은 검증자와 함께 200, 이후는 304
+        stub.stub(KR_2025,
+                StubResponse.ok(KR_2025_BODY).header("ETag", "\"v1\"").header("Last-Modified", LAST_MODIFIED),
+                StubResponse.status(304));
+
+        // when
+        PublicHolidays first = client.getPublicHolidays(2025, "KR");
+        assertThat(stub.lastRequestHeader(KR_2025, "If-None-Match")).isNull();
+        PublicHolidays second = client.getPublicHolidays(2025, "KR");
+
+        // then: 304 는 저장한 본문과 그 항목의 version 을 그대로 돌려준다
+        assertThat(stub.lastRequestHeader(KR_2025, "If-None-Match")).isEqualTo("\"v1\"");
+        assertThat(stub.lastRequestHeader(KR_2025, "If-Modified-Since")).isEqualTo(LAST_MODIFIED);
+        assertThat(second.holidays()).isEqualTo(first.holidays())
+                .extracting(NagerHolidayResponse::date).containsExactly(LocalDate.of(2025, 1, 1));
+        assertThat(first.cacheVersion()).isEqualTo(responseCache.find(KR_2025).orElseThrow().version());
+        assertThat(second.cacheVersion()).isEqualTo(first.cacheVersion());
+        assertThat(stub.hits(KR_2025)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증자 없는 200 응답은 남아 있던 항목(디스크 포함)을 지워, 다음 요청은 조건 없이 나가고 304 로 건너뛰지 않는다")
+    void 검증자_없는_응답은_이전_항목_삭제() {
+        // given: 반영까지 끝난 항목
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", null, KR_2025_BODY);
+        responseCache.markApplied(uri, responseCache.find(uri).orElseThrow().version());
+        stub.stub(KR_2025, StubResponse.ok("[]"));
+
+        // when
+        PublicHolidays fetched = client.getPublicHolidays(2025, "KR");
+
+        // then: 캐시하지 않은 응답이라 version 없음
+        assertThat(fetched.holidays()).isEmpty();
+        assertThat(fetched.cacheVersion()).isNull();
+        assertThat(stub.lastRequestHeader(KR_2025, "If-None-Match")).isEqualTo("\"v1\"");
+        assertThat(responseCache.find(uri)).isEmpty();
+        assertThat(new NagerResponseCache(objectMapper, true, cacheDir).find(uri)).isEmpty();
+
+        client.getPublicHolidays(2025, "KR");
+        assertThat(stub.lastRequestHeader(KR_2025, "If-None-Match")).isNull();
+    }
+
+    @Test
+    @DisplayName("applied: 같은 version 만 반영으로 기록하고, 새 본문 / markStale 이면 미반영, 트랜잭션 안이면 커밋 뒤에 기록한다")
+    void 반영_여부_기록() {
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", null, KR_2025_BODY);
+        long v1 = responseCache.find(uri).orElseThrow().version();
+        assertThat(applied(uri)).isFalse();
+
+        // 그 사이 새 본문이 저장되었으면 이전 version 반영은 무시
+        responseCache.store(uri, "\"v2\"", null, "[]");
+        responseCache.markApplied(uri, v1);
+        assertThat(applied(uri)).isFalse();
+
+        // 트랜잭션 안에서는 커밋 뒤에 기록
+        long v2 = responseCache.find(uri).orElseThrow().version();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            responseCache.markApplied(uri, v2);
+            assertThat(applied(uri)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(applied(uri)).isTrue();
+
+        responseCache.markStale(uri);
+        assertThat(applied(uri)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조회한 본문의 version 으로 반영을 기록하면, 그 사이 저장된 새 200 본문은 미반영으로 남는다")
+    void 조회한_version_으로_반영_기록() {
+        // given: 같은 URI 에 서로 다른 본문이 차례로 200 으로 도착
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        stub.stub(KR_2025,
+                StubResponse.ok(KR_2025_BODY).header("ETag", "\"v1\""),
+                StubResponse.ok("[]").header("ETag", "\"v2\""));
+        PublicHolidays older = client.getPublicHolidays(2025, "KR");
+        PublicHolidays newer = client.getPublicHolidays(2025, "KR");
+        assertThat(newer.cacheVersion()).isNotEqualTo(older.cacheVersion());
+
+        // when: 먼저 조회한 본문의 반영이 늦게 끝남
+        responseCache.markApplied(uri, older.cacheVersion());
+
+        // then
+        assertThat(applied(uri)).isFalse();
+        responseCache.markApplied(uri, newer.cacheVersion());
+        assertThat(applied(uri)).isTrue();
+    }
+
+    @Test
+    @DisplayName("markAllStale: 트랜잭션 커밋 뒤에 모든 항목을 미반영으로 돌린다")
+    void 전체_미반영() {
+        String kr = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        String us = NagerResponseCache.publicHolidaysUri(2025, "US");
+        responseCache.store(kr, "\"v1\"", null, KR_2025_BODY);
+        responseCache.store(us, "\"v1\"", null, "[]");
+        responseCache.markApplied(kr, responseCache.find(kr).orElseThrow().version());
+        responseCache.markApplied(us, responseCache.find(us).orElseThrow().version());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            responseCache.markAllStale();
+            assertThat(applied(kr)).isTrue();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(applied(kr)).isFalse();
+        assertThat(applied(us)).isFalse();
+    }
+
+    @Test
+    @DisplayName("applied 는 재시작(새 인스턴스)하면 사라지고, 검증자와 본문만 디스크에서 이어받는다")
+    void 재시작하면_미반영으로_시작() throws IOException {
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", LAST_MODIFIED, KR_2025_BODY);
+        responseCache.markApplied(uri, responseCache.find(uri).orElseThrow().version());
+        assertThat(applied(uri)).isTrue();
+
+        // 이전 버전이 applied = true 로 남긴 파일도 미반영으로 읽음
+        Path file;
+        try (var files = Files.list(cacheDir)) {
+            file = files.filter(path -> path.toString().endsWith(".json")).findFirst().orElseThrow();
+        }
+        assertThat(Files.readString(file)).contains("\"applied\":false");
+        Files.writeString(file, Files.readString(file).replace("\"applied\":false", "\"applied\":true"));
+
+        NagerResponseCache restarted = new NagerResponseCache(objectMapper, true, cacheDir);
+        NagerResponseCache.Entry entry = restarted.find(uri).orElseThrow();
+        assertThat(entry.applied()).isFalse();
+        assertThat(entry.etag()).isEqualTo("\"v1\"");
+        assertThat(entry.lastModified()).isEqualTo(LAST_MODIFIED);
+        assertThat(entry.body()).isEqualTo(KR_2025_BODY);
+    }
+
+    private boolean applied(String uri) {
+        return responseCache.find(uri).orElseThrow().applied();
+    }
+}
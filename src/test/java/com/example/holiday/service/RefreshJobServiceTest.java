@@ -0,0 +1,121 @@
+package com.example.holiday.service;
+
+import com.example.holiday.controller.ApiExceptionHandler;
+import com.example.holiday.metrics.HolidayMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * RefreshJobService 비동기 실행 / 중복 요청 합류 테스트.
+ * - 작업은 워커 스레드에서 커밋되므로 테스트 트랜잭션 없이 실행하고, 외부 API 실패로 끝나게 해 DB 에 남기지 않음
+ */
+@SpringBootTest
+class RefreshJobServiceTest {
+
+    @Autowired
+    RefreshJobService refreshJobService;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @Test
+    @DisplayName("같은 연도·국가 refresh 가 진행 중이면 같은 작업에 합류하고 외부 API 는 한 번만 호출한다")
+    void 진행_중인_refresh_합류() throws Exception {
+        // given: 국가 목록 조회가 latch 가 열릴 때까지 대기하다 실패
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(nagerClient.getAvailableCountries()).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("외부 API 오류");
+        });
+
+        // when
+        RefreshJob first = refreshJobService.submit(2025, "zz");
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        RefreshJob second = refreshJobService.submit(2025, "ZZ");
+
+        // then: 실행 중 작업에 합류
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStatus()).isEqualTo(RefreshJob.Status.RUNNING);
+        assertThat(refreshJobService.find(first.getId())).containsSame(first);
+
+        release.countDown();
+        assertThatThrownBy(() -> first.getCompletion().get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(first.getStatus()).isEqualTo(RefreshJob.Status.FAILED);
+        assertThat(first.getError()).isEqualTo("외부 API 오류");
+        verify(nagerClient, times(1)).getAvailableCountries();
+
+        // 끝난 뒤 요청은 새 작업
+        RefreshJob next = refreshJobService.submit(2025, "ZZ");
+        assertThat(next.getId()).isNotEqualTo(first.getId());
+        next.getCompletion().handle((result, error) -> null).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 RefreshQueueFullException 으로 거절하고, API 는 503 + Retry-After 로 응답한다")
+    void 대기열_가득_참() throws Exception {
+        // given: 워커 1개 + 대기열 1칸, 첫 작업은 latch 가 열릴 때까지 실행 중
+        HolidayService holidayService = mock(HolidayService.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(holidayService.load(anyInt(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return SyncResult.EMPTY;
+        });
+        RefreshJobService service = new RefreshJobService(holidayService, mock(HolidayMetrics.class), 1, 1, 10,
+                Duration.ofSeconds(7));
+        try {
+            service.submitLoad(2025, "KR");
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when / then: 남은 자리는 대기열 1칸
+            service.ensureCapacity(1);
+            assertThatThrownBy(() -> service.ensureCapacity(2)).isInstanceOf(RefreshQueueFullException.class);
+            assertThatThrownBy(() -> service.ensureCapacity(3)).isInstanceOf(IllegalArgumentException.class);
+
+            service.submitLoad(2025, "JP");
+            RefreshQueueFullException rejected = catchThrowableOfType(
+                    () -> service.submitLoad(2025, "US"), RefreshQueueFullException.class);
+            assertThat(rejected.getRetryAfter()).isEqualTo(Duration.ofSeconds(7));
+            assertThat(service.find("unknown")).isEmpty();
+
+            ResponseEntity<ProblemDetail> response = new ApiExceptionHandler().refreshQueueFull(rejected);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("7");
+        } finally {
+            release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("지원 범위 밖 연도는 작업을 만들지 않고 바로 거절한다")
+    void 범위_밖_연도_거절() {
+        assertThatThrownBy(() -> refreshJobService.submit(2019, "KR"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
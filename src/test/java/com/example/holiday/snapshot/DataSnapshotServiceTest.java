@@ -0,0 +1,151 @@
+package com.example.holiday.snapshot;
+
+import com.example.holiday.dto.response.HolidayResponse;
+import com.example.holiday.dto.response.NagerCountryResponse;
+import com.example.holiday.dto.response.NagerHolidayResponse;
+import com.example.holiday.dto.response.PublicHolidays;
+import com.example.holiday.repository.HolidayRepository;
+import com.example.holiday.service.HolidayService;
+import com.example.holiday.service.NagerClient;
+import com.example.holiday.service.NagerResponseCache;
+import com.example.holiday.service.ReferenceDataCache;
+import com.example.holiday.snapshot.DataSnapshot.CountryRow;
+import com.example.holiday.snapshot.DataSnapshot.HolidayRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@Transactional
+class DataSnapshotServiceTest {
+
+    @Autowired
+    DataSnapshotService dataSnapshotService;
+
+    @Autowired
+    HolidayService holidayService;
+
+    @Autowired
+    HolidayRepository holidayRepository;
+
+    @Autowired
+    NagerResponseCache responseCache;
+
+    @Autowired
+    ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    NagerClient nagerClient;
+
+    @Test
+    @DisplayName("export 한 스냅샷을 빈 DB 에 load 하면 id 까지 같은 데이터가 복원되고, 이후 새 행은 기존 id 와 겹치지 않는다")
+    void 스냅샷_왕복() throws Exception {
+        // given
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(
+                new NagerCountryResponse("KR", "Korea (Republic of)"),
+                new NagerCountryResponse("US", "United States")
+        ));
+        given(nagerClient.getPublicHolidays(anyInt(), anyString()))
+                .willAnswer(invocation -> PublicHolidays.uncached(holidays(invocation.getArgument(0, Integer.class),
+                        invocation.getArgument(1, String.class))));
+        holidayService.initialLoadIfEmpty();
+        List<HolidayResponse> before = holidayRepository.findAllResponses();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int exported = dataSnapshotService.export(out);
+
+        // when
+        assertThatThrownBy(() -> dataSnapshotService.load(new ByteArrayInputStream(out.toByteArray())))
+                .isInstanceOf(IllegalStateException.class);
+        holidayRepository.deleteAllInBatch();
+        DataSnapshot loaded = dataSnapshotService.load(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertThat(exported).isEqualTo(before.size()).isEqualTo(2 * 6 * 3);
+        assertThat(loaded.holidays()).hasSize(before.size());
+        assertThat(holidayRepository.findAllResponses()).containsExactlyElementsOf(before);
+
+        // refresh 로 새 공휴일 추가 → 스냅샷의 id 뒤에서 발급
+        List<NagerHolidayResponse> changed = new ArrayList<>(holidays(2025, "KR"));
+        changed.add(new NagerHolidayResponse(LocalDate.of(2025, 10, 3), "개천절", "National Foundation Day",
+                "KR", true, true, null, List.of("Public")));
+        given(nagerClient.getPublicHolidays(2025, "KR")).willReturn(PublicHolidays.uncached(changed));
+        holidayService.refresh(2025, "KR");
+        long maxLoadedId = before.stream().mapToLong(HolidayResponse::id).max().orElseThrow();
+        assertThat(holidayRepository.findAllResponses())
+                .filteredOn(h -> h.localName().equals("개천절"))
+                .singleElement()
+                .satisfies(h -> assertThat(h.id()).isGreaterThan(maxLoadedId));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("load 가 커밋되면 외부 응답 캐시가 미반영이 되어, 이어지는 동기화가 304 여도 다시 반영한다")
+    void 적재_후_응답_캐시_미반영() throws Exception {
+        // given: 이전 동기화에서 반영까지 끝난 응답
+        String uri = NagerResponseCache.publicHolidaysUri(2025, "KR");
+        responseCache.store(uri, "\"v1\"", null, "[]");
+        responseCache.markApplied(uri, responseCache.find(uri).orElseThrow().version());
+        DataSnapshot snapshot = new DataSnapshot(Instant.now(),
+                List.of(new CountryRow("KR", "Korea (Republic of)", null)),
+                List.of("Public"),
+                List.of(new HolidayRow(1L, "KR", LocalDate.of(2025, 1, 1), "새해", "New Year's Day", "Public",
+                        true, true, null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataSnapshotCodec.write(snapshot, out);
+
+        try {
+            // when
+            dataSnapshotService.load(new ByteArrayInputStream(out.toByteArray()));
+
+            // then
+            assertThat(responseCache.find(uri).orElseThrow().applied()).isFalse();
+        } finally {
+            // 커밋된 적재 결과는 다른 테스트와 같은 DB 이므로 지운다
+            jdbcTemplate.update("delete from holiday");
+            jdbcTemplate.update("delete from country where code = 'KR'");
+            jdbcTemplate.update("delete from holiday_type where code = 'Public'");
+            referenceDataCache.reload();
+            responseCache.store(uri, null, null, "[]");
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 형식이 아니면 거절한다")
+    void 잘못된_파일() {
+        assertThatThrownBy(() -> DataSnapshotCodec.read(new ByteArrayInputStream("not a snapshot".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<NagerHolidayResponse> holidays(int year, String countryCode) {
+        return List.of(
+                new NagerHolidayResponse(LocalDate.of(year, 1, 1), "새해", "New Year's Day",
+                        countryCode, true, true, null, List.of("Public")),
+                new NagerHolidayResponse(LocalDate.of(year, 5, 5), "어린이날", "Children's Day",
+                        countryCode, true, true, 1975, List.of("Public")),
+                new NagerHolidayResponse(LocalDate.of(year, 12, 24), "지역 휴일", "Local Day",
+                        countryCode, false, false, null, List.of())
+        );
+    }
+}
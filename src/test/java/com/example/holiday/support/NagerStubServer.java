@@ -0,0 +1,113 @@
+package com.example.holiday.support;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nager API 대역 (JDK HttpServer).
+ * 경로마다 응답 순서(상태 코드, 지연, 본문, 헤더)를 정해 두면 요청 순서대로 내보내고, 마지막 응답은 계속 반복한다.
+ * 경로별 마지막 요청 헤더를 기록해 조건부 요청(If-None-Match 등)을 확인할 수 있다.
+ */
+public class NagerStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, List<StubResponse>> scripts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final Map<String, Headers> lastRequestHeaders = new ConcurrentHashMap<>();
+
+    public NagerStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stub(String path, StubResponse... responses) {
+        scripts.put(path, List.of(responses));
+        hits.remove(path);
+        lastRequestHeaders.remove(path);
+    }
+
+    public int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * path 로 들어온 마지막 요청의 헤더 값 (없으면 null).
+     */
+    public String lastRequestHeader(String path, String name) {
+        Headers headers = lastRequestHeaders.get(path);
+        return headers == null ? null : headers.getFirst(name);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        lastRequestHeaders.put(path, new Headers(exchange.getRequestHeaders()));
+        int index = hits.computeIfAbsent(path, key -> new AtomicInteger()).getAndIncrement();
+        List<StubResponse> script = scripts.getOrDefault(path, List.of(StubResponse.status(404)));
+        StubResponse response = script.get(Math.min(index, script.size() - 1));
+
+        try (exchange) {
+            if (!response.delay().isZero()) {
+                Thread.sleep(response.delay());
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 끊은 경우
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    public record StubResponse(int status, Duration delay, String body, Map<String, String> headers) {
+
+        public static StubResponse ok(String body) {
+            return new StubResponse(200, Duration.ZERO, body, Map.of());
+        }
+
+        public static StubResponse status(int status) {
+            return new StubResponse(status, Duration.ZERO, "", Map.of());
+        }
+
+        public StubResponse after(Duration delay) {
+            return new StubResponse(status, delay, body, headers);
+        }
+
+        public StubResponse header(String name, String value) {
+            Map<String, String> merged = new HashMap<>(headers);
+            merged.put(name, value);
+            return new StubResponse(status, delay, body, Map.copyOf(merged));
+        }
+    }
+}